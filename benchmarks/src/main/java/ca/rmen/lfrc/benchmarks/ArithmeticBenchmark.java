@@ -0,0 +1,82 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of adding days to a French date, for each calculation method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticBenchmark {
+
+    @Param({"EQUINOX", "ROMME", "VON_MADLER"})
+    public CalculationMethod method;
+
+    @Param({"ERA", "MODERN", "EQUINOX_CHUNK_0", "EQUINOX_CHUNK_1000", "EQUINOX_CHUNK_2000", "EQUINOX_CHUNK_3000"})
+    public BenchmarkDates dates;
+
+    private FrenchRevolutionaryCalendar frc;
+    private FrenchRevolutionaryCalendarDate frenchDate;
+
+    @Setup
+    public void setUp() {
+        frc = new FrenchRevolutionaryCalendar(Locale.ENGLISH, method);
+        frenchDate = dates.createFrenchDate(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public FrenchRevolutionaryCalendarDate plusDays() {
+        return frc.plusDays(frenchDate, 17);
+    }
+
+    /**
+     * Adds 17 days the way it was done before plusDays: with a round trip through the Gregorian calendar.
+     */
+    @Benchmark
+    public FrenchRevolutionaryCalendarDate plusDaysWithGregorianCalendar() {
+        GregorianCalendar cal = frc.getDate(frenchDate);
+        cal.add(Calendar.DAY_OF_MONTH, 17);
+        return frc.getDate(cal);
+    }
+}
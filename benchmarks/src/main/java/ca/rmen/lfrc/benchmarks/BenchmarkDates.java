@@ -0,0 +1,94 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarDate;
+
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+/**
+ * The dates used by the benchmarks: one Gregorian timestamp and one French timestamp for each
+ * range of dates which exercises a different code path in the library.
+ */
+public enum BenchmarkDates {
+    /**
+     * Within the years the French calendar was actually used (1792-1811): every calculation method uses the equinox.
+     */
+    ERA(1800, 6, 15, 12, 34, 56, 8, 9, 26, 5, 24, 30),
+
+    /**
+     * Present-day dates.
+     */
+    MODERN(2018, 7, 4, 9, 15, 0, 226, 10, 16, 3, 85, 41),
+
+    /**
+     * Uses the equinox dates from -1000 to 0: the French year began in the Gregorian year 0.
+     */
+    EQUINOX_CHUNK_0(1, 3, 1, 6, 0, 0, -1791, 6, 10, 2, 50, 0),
+
+    /**
+     * Uses the equinox dates from 1 to 1000.
+     */
+    EQUINOX_CHUNK_1000(500, 5, 10, 6, 0, 0, -1291, 8, 20, 2, 50, 0),
+
+    /**
+     * Uses the equinox dates from 1001 to 2000, outside of the revolutionary era.
+     */
+    EQUINOX_CHUNK_2000(1500, 5, 10, 6, 0, 0, -291, 8, 20, 2, 50, 0),
+
+    /**
+     * Uses the equinox dates from 2001 to 3000, after 2100.
+     */
+    EQUINOX_CHUNK_3000(2500, 5, 10, 6, 0, 0, 709, 8, 20, 2, 50, 0);
+
+    private final int gYear, gMonth, gDay, gHour, gMinute, gSecond;
+    private final int fYear, fMonth, fDay, fHour, fMinute, fSecond;
+
+    BenchmarkDates(int gYear, int gMonth, int gDay, int gHour, int gMinute, int gSecond,
+                   int fYear, int fMonth, int fDay, int fHour, int fMinute, int fSecond) {
+        this.gYear = gYear;
+        this.gMonth = gMonth;
+        this.gDay = gDay;
+        this.gHour = gHour;
+        this.gMinute = gMinute;
+        this.gSecond = gSecond;
+        this.fYear = fYear;
+        this.fMonth = fMonth;
+        this.fDay = fDay;
+        this.fHour = fHour;
+        this.fMinute = fMinute;
+        this.fSecond = fSecond;
+    }
+
+    /**
+     * @return a new Gregorian calendar, in the default time zone, for this range of dates.
+     */
+    GregorianCalendar createGregorianDate() {
+        return new GregorianCalendar(gYear, gMonth - 1, gDay, gHour, gMinute, gSecond);
+    }
+
+    /**
+     * @return a new French date for this range of dates.
+     */
+    FrenchRevolutionaryCalendarDate createFrenchDate(Locale locale) {
+        return new FrenchRevolutionaryCalendarDate(locale, fYear, fMonth, fDay, fHour, fMinute, fSecond);
+    }
+}
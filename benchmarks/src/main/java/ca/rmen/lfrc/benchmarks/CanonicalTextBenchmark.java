@@ -0,0 +1,74 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchDateText;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarPackedDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing and parsing the canonical text of a packed French date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanonicalTextBenchmark {
+
+    private long packedDate;
+    private String canonicalText;
+    private final byte[] bytes = new byte[FrenchDateText.MAX_LENGTH];
+
+    @Setup
+    public void setUp() {
+        packedDate = FrenchRevolutionaryCalendarPackedDate.of(BenchmarkDates.MODERN.createFrenchDate(Locale.ENGLISH));
+        canonicalText = FrenchDateText.toText(packedDate);
+    }
+
+    @Benchmark
+    public String canonicalText() {
+        return FrenchDateText.toText(packedDate);
+    }
+
+    @Benchmark
+    public int writeCanonicalText() {
+        return FrenchDateText.writeText(packedDate, bytes, 0);
+    }
+
+    @Benchmark
+    public long parseCanonicalText() throws ParseException {
+        return FrenchDateText.parsePackedDate(canonicalText);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of producing the French dates of every day of five centuries, with a stream,
+ * compared to converting each day with getDate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateRangeBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(1800, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2300, 1, 1);
+
+    @Param({"EQUINOX", "ROMME", "VON_MADLER"})
+    public CalculationMethod method;
+
+    private FrenchRevolutionaryCalendar frc;
+
+    @Setup
+    public void setUp() {
+        frc = new FrenchRevolutionaryCalendar(Locale.ENGLISH, method);
+    }
+
+    @Benchmark
+    public long packedDateStream() {
+        return frc.getPackedDates(START_DATE, END_DATE).sum();
+    }
+
+    @Benchmark
+    public void dateStream(Blackhole blackhole) {
+        frc.getDates(START_DATE, END_DATE).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void getDateLoop(Blackhole blackhole) {
+        for (LocalDate date = START_DATE; date.isBefore(END_DATE); date = date.plusDays(1)) {
+            FrenchRevolutionaryCalendarDate frenchDate = frc.getDate(date);
+            blackhole.consume(frenchDate);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting epoch millis to a packed French date with a table of the days from 1792 to 2300, compared to
+ * computing the date. The dates of the other centuries aren't in the table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DayTableBenchmark {
+
+    @Param({"EQUINOX", "ROMME", "VON_MADLER"})
+    public CalculationMethod method;
+
+    @Param({"ERA", "MODERN", "EQUINOX_CHUNK_0", "EQUINOX_CHUNK_1000", "EQUINOX_CHUNK_2000", "EQUINOX_CHUNK_3000"})
+    public BenchmarkDates dates;
+
+    private FrenchRevolutionaryCalendar frc;
+    private FrenchRevolutionaryCalendar frcWithDayTable;
+    private long epochMillis;
+    private TimeZone timeZone;
+
+    @Setup
+    public void setUp() {
+        frc = new FrenchRevolutionaryCalendar(Locale.ENGLISH, method);
+        frcWithDayTable = frc.withDayTable(LocalDate.of(1792, 1, 1), LocalDate.of(2300, 1, 1));
+        GregorianCalendar gregorianDate = dates.createGregorianDate();
+        epochMillis = gregorianDate.getTimeInMillis();
+        timeZone = gregorianDate.getTimeZone();
+    }
+
+    @Benchmark
+    public long epochMillisToPackedDate() {
+        return frc.getPackedDate(epochMillis, timeZone);
+    }
+
+    @Benchmark
+    public long epochMillisToPackedDateWithDayTable() {
+        return frcWithDayTable.getPackedDate(epochMillis, timeZone);
+    }
+}
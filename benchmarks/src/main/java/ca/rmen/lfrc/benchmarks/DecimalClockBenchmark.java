@@ -0,0 +1,89 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.DecimalClock;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading the current French date and time, with a decimal clock, and with a conversion of the current
+ * Gregorian date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalClockBenchmark {
+
+    @Param({"EQUINOX", "ROMME", "VON_MADLER"})
+    public CalculationMethod method;
+
+    @Param({"UTC", "Europe/Paris"})
+    public String zone;
+
+    private FrenchRevolutionaryCalendar frc;
+    private DecimalClock clock;
+
+    @Setup
+    public void setUp() {
+        frc = new FrenchRevolutionaryCalendar(Locale.ENGLISH, method);
+        clock = new DecimalClock(frc, ZoneId.of(zone));
+    }
+
+    @Benchmark
+    public long packedDate() {
+        return clock.getPackedDate();
+    }
+
+    @Benchmark
+    public FrenchRevolutionaryCalendarDate date() {
+        return clock.getDate();
+    }
+
+    /**
+     * The current date the way the command-line program used to read it: with a new calendar and a GregorianCalendar.
+     */
+    @Benchmark
+    public FrenchRevolutionaryCalendarDate dateWithGregorianCalendar() {
+        FrenchRevolutionaryCalendar calendar = new FrenchRevolutionaryCalendar(Locale.ENGLISH, method);
+        return calendar.getDate((GregorianCalendar) GregorianCalendar.getInstance(TimeZone.getTimeZone(zone)));
+    }
+}
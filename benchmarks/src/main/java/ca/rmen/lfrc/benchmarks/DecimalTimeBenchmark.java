@@ -0,0 +1,77 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarDecimalTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting the time of a Gregorian date to decimal time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalTimeBenchmark {
+
+    private GregorianCalendar gregorianDate;
+    private long epochMillis;
+    private TimeZone timeZone;
+    private final int[] time = new int[4];
+
+    @Setup
+    public void setUp() {
+        gregorianDate = BenchmarkDates.MODERN.createGregorianDate();
+        epochMillis = gregorianDate.getTimeInMillis();
+        timeZone = gregorianDate.getTimeZone();
+    }
+
+    @Benchmark
+    public int[] decimalTime() {
+        return FrenchRevolutionaryCalendar.getFrenchTime(gregorianDate);
+    }
+
+    @Benchmark
+    public int[] decimalTimeFromEpochMillis() {
+        FrenchRevolutionaryCalendar.getFrenchTime(epochMillis, timeZone, time);
+        return time;
+    }
+
+    @Benchmark
+    public int packedDecimalTimeFromEpochMillis() {
+        return FrenchRevolutionaryCalendarDecimalTime.ofEpochMillis(epochMillis, timeZone);
+    }
+}
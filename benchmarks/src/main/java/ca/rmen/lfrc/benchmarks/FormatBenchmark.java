@@ -0,0 +1,116 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchDateFormatter;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarDate;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarPackedDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of formatting and parsing a French date with the default pattern of the command-line program.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    private static final String PATTERN = "%E, %dd-%MMMM-%y, %H:%mm:%ss, %T:%DDDD";
+
+    private FrenchDateFormatter formatter;
+    private FrenchRevolutionaryCalendarDate frenchDate;
+    private long packedDate;
+    private String formattedDate;
+    private final StringBuilder output = new StringBuilder();
+
+    @Setup
+    public void setUp() {
+        formatter = FrenchDateFormatter.ofPattern(PATTERN);
+        frenchDate = BenchmarkDates.MODERN.createFrenchDate(Locale.ENGLISH);
+        packedDate = FrenchRevolutionaryCalendarPackedDate.of(frenchDate);
+        formattedDate = formatter.format(frenchDate);
+    }
+
+    @Benchmark
+    public String format() {
+        return formatter.format(frenchDate);
+    }
+
+    /**
+     * Formats a packed date into the same buffer each time, the way a log appender would.
+     */
+    @Benchmark
+    public StringBuilder formatPackedDateTo() {
+        output.setLength(0);
+        formatter.formatTo(packedDate, Locale.ENGLISH, output);
+        return output;
+    }
+
+    @Benchmark
+    public long parsePackedDate() throws ParseException {
+        return formatter.parsePackedDate(formattedDate, Locale.ENGLISH);
+    }
+
+    /**
+     * The text of the data class, which was the only text of a date without a pattern.
+     */
+    @Benchmark
+    public String dateToString() {
+        return frenchDate.toString();
+    }
+
+    /**
+     * The way the command-line program used to format dates.
+     */
+    @Benchmark
+    public String formatWithReplaceAll() {
+        String result = PATTERN;
+        result = result.replaceAll("%y", String.format("%d", frenchDate.year));
+        result = result.replaceAll("%MMMM", frenchDate.getMonthName());
+        result = result.replaceAll("%MM", String.format("%02d", frenchDate.month));
+        result = result.replaceAll("%M", String.format("%d", frenchDate.month));
+        result = result.replaceAll("%dd", String.format("%02d", frenchDate.dayOfMonth));
+        result = result.replaceAll("%d", String.format("%d", frenchDate.dayOfMonth));
+        result = result.replaceAll("%H", String.format("%d", frenchDate.hour));
+        result = result.replaceAll("%mm", String.format("%02d", frenchDate.minute));
+        result = result.replaceAll("%ss", String.format("%02d", frenchDate.second));
+        result = result.replaceAll("%E", frenchDate.getWeekdayName());
+        result = result.replaceAll("%W", String.format("%d", frenchDate.getWeekInMonth()));
+        result = result.replaceAll("%T", frenchDate.getObjectTypeName());
+        result = result.replaceAll("%DDDD", frenchDate.getObjectOfTheDay());
+        return result;
+    }
+}
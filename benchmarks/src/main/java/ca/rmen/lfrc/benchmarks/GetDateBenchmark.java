@@ -0,0 +1,95 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendarDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state cost of converting a single date, in both directions, for each calculation method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetDateBenchmark {
+
+    @Param({"EQUINOX", "ROMME", "VON_MADLER"})
+    public CalculationMethod method;
+
+    @Param({"ERA", "MODERN", "EQUINOX_CHUNK_0", "EQUINOX_CHUNK_1000", "EQUINOX_CHUNK_2000", "EQUINOX_CHUNK_3000"})
+    public BenchmarkDates dates;
+
+    private FrenchRevolutionaryCalendar frc;
+    private GregorianCalendar gregorianDate;
+    private Instant instant;
+    private ZoneId zoneId;
+    private FrenchRevolutionaryCalendarDate frenchDate;
+
+    @Setup
+    public void setUp() {
+        frc = new FrenchRevolutionaryCalendar(Locale.ENGLISH, method);
+        gregorianDate = dates.createGregorianDate();
+        instant = gregorianDate.toInstant();
+        zoneId = gregorianDate.getTimeZone().toZoneId();
+        frenchDate = dates.createFrenchDate(Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public FrenchRevolutionaryCalendarDate gregorianToFrench() {
+        return frc.getDate(gregorianDate);
+    }
+
+    @Benchmark
+    public GregorianCalendar frenchToGregorian() {
+        return frc.getDate(frenchDate);
+    }
+
+    @Benchmark
+    public FrenchRevolutionaryCalendarDate instantToFrench() {
+        return frc.getDate(instant, zoneId);
+    }
+
+    @Benchmark
+    public ZonedDateTime frenchToZonedDateTime() {
+        return frc.getZonedDateTime(frenchDate, zoneId);
+    }
+}
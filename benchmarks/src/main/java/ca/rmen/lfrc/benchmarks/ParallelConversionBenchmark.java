@@ -0,0 +1,119 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.benchmarks;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the parallel bulk conversions with the number of threads of the fork/join pool, compared to the
+ * sequential bulk conversions of the same column of one million sorted timestamps.
+ * A pool can't use more threads than the machine has cores: compare the parallelism of the pool to the number of
+ * cores when reading the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelConversionBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    // 2010-01-01
+    private static final long START_MILLIS = 1262304000000L;
+    private static final long TEN_YEARS_MILLIS = 10 * 365 * 86400000L;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private final FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.ENGLISH, CalculationMethod.ROMME);
+    private final ZoneId zoneId = ZoneId.of("Europe/Paris");
+    private ForkJoinPool pool;
+    private long[] epochMillis;
+    private int[] years;
+    private byte[] months;
+    private byte[] days;
+    private long[] packedDates;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism);
+        epochMillis = new long[SIZE];
+        Random random = new Random(1792);
+        for (int i = 0; i < SIZE; i++) {
+            epochMillis[i] = START_MILLIS + (long) (random.nextDouble() * TEN_YEARS_MILLIS);
+        }
+        Arrays.sort(epochMillis);
+        years = new int[SIZE];
+        months = new byte[SIZE];
+        days = new byte[SIZE];
+        packedDates = new long[SIZE];
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] sequentialConvert() {
+        frc.convert(epochMillis, zoneId, years, months, days);
+        return years;
+    }
+
+    @Benchmark
+    public int[] parallelConvert() {
+        frc.parallelConvert(epochMillis, zoneId, years, months, days, pool);
+        return years;
+    }
+
+    @Benchmark
+    public long[] sequentialPackedDates() {
+        frc.getPackedDates(epochMillis, zoneId, packedDates);
+        return packedDates;
+    }
+
+    @Benchmark
+    public long[] parallelPackedDates() {
+        frc.parallelGetPackedDates(epochMillis, zoneId, packedDates, pool);
+        return packedDates;
+    }
+}
@@ -19,39 +19,43 @@
  */
 package ca.rmen.lfrc.cli;
 
+import ca.rmen.lfrc.DecimalClock;
+import ca.rmen.lfrc.FrenchDateFormatter;
+import ca.rmen.lfrc.FrenchDayTableFile;
 import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
 import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
-import ca.rmen.lfrc.FrenchRevolutionaryCalendarDate;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.GregorianCalendar;
+import java.util.Arrays;
 import java.util.Locale;
-import java.time.ZonedDateTime;
 
 /**
  * Command-line interface to the French Revolutionary Calendar library functions.
  */
 class FrenchRevolutionaryCalendarCLI {
 
-    private static final String FORMAT_FULL_TZ_OFFSET = "yyyy-MM-dd HH:mm:ss Z";
-    private static final String FORMAT_FULL_TZ_NAME = "yyyy-MM-dd HH:mm:ss z";
-    private static final String FORMAT_FULL = "yyyy-MM-dd HH:mm:ss";
-    private static final String FORMAT_ISO_TZ_OFFSET = "yyyy-MM-dd'T'HH:mm:ssZ";
-    private static final String FORMAT_ISO_TZ_NAME= "yyyy-MM-dd'T'HH:mm:ssz";
-    private static final String FORMAT_DATE_ONLY = "yyyy-MM-dd";
-    private static final String FORMAT_TIME_ONLY = "HH:mm:ss";
-    private static final String[] FORMATS = {FORMAT_ISO_TZ_OFFSET, FORMAT_ISO_TZ_NAME, FORMAT_FULL_TZ_OFFSET, FORMAT_FULL_TZ_NAME, FORMAT_FULL, FORMAT_DATE_ONLY, FORMAT_TIME_ONLY };
+    // If we were given only the Gregorian time, only display the French time.
+    private static final FrenchDateFormatter TIME_ONLY_FORMATTER = FrenchDateFormatter.ofPattern("%H:%mm:%ss");
+    private static final int BATCH_BUFFER_SIZE = 1 << 16;
+    private static final long SECONDS_PER_DAY = 86400L;
 
     public static void main(String[] args) {
         if (args.length == 0) usage();
@@ -64,6 +68,12 @@ class FrenchRevolutionaryCalendarCLI {
             } else if (args[i].equals("g2f")) {
                 if (i != args.length - 2) usage();
                 print(g2f(args[++i], method, outputFormat));
+            } else if (args[i].equals("g2f-batch")) {
+                if (i < args.length - 2) usage();
+                g2fBatch(i == args.length - 2 ? args[++i] : null, method, outputFormat);
+            } else if (args[i].equals("day-table")) {
+                if (i != args.length - 4) usage();
+                writeDayTable(args[++i], args[++i], args[++i]);
             } else if (args[i].equals("-method")) {
                 String methodName = args[++i];
                 try {
@@ -85,72 +95,180 @@ class FrenchRevolutionaryCalendarCLI {
      */
     private static void now(CalculationMethod method, String outputFormat) {
         FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.getDefault(), method);
-        GregorianCalendar now = (GregorianCalendar) GregorianCalendar.getInstance();
-        FrenchRevolutionaryCalendarDate frenchDate = frc.getDate(now);
-        print(format(frenchDate, outputFormat));
+        DecimalClock clock = new DecimalClock(frc, ZoneId.systemDefault());
+        print(FrenchDateFormatter.ofPattern(outputFormat).format(clock.getDate()));
     }
 
     /**
      * Convert the given date or timestamp in the Gregorian calendar to the French Revolutionary Calendar and print the result.
      */
     static String g2f(String gregorianDateString, CalculationMethod method, String outputFormat) {
-        // Try all our possible date and time formats until one works.
-        for (String format : FORMATS) {
-            try {
-                // If we were given only the Gregorian time, only display the French time.
-                if (FORMAT_TIME_ONLY.equals(format)) outputFormat = "%H:%mm:%ss";
-
-                final GregorianCalendar cal;
-                DateTimeFormatter tdf = DateTimeFormatter.ofPattern(format);//.withOffsetParsed();
-                if (FORMAT_FULL.equals(format)) {
-                    LocalDateTime date = LocalDateTime.parse(gregorianDateString, tdf);
-                    cal = new GregorianCalendar(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth(), date.getHour(), date.getMinute(), date.getSecond());
-                } else if (FORMAT_TIME_ONLY.equals(format)) {
-                    LocalTime time = LocalTime.parse(gregorianDateString, tdf);
-                    cal = GregorianCalendar.from(ZonedDateTime.of(LocalDate.now(), time, ZoneId.systemDefault()));
-                } else if (FORMAT_DATE_ONLY.equals(format)) {
-                    LocalDate date = LocalDate.parse(gregorianDateString, tdf);
-                    cal = new GregorianCalendar(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth());
-                } else {
-                    ZonedDateTime date = ZonedDateTime.parse(gregorianDateString, tdf);
-                    cal = GregorianCalendar.from(date);
-                }
-
-                FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.getDefault(), method);
-                FrenchRevolutionaryCalendarDate frenchDate = frc.getDate(cal);
-                System.err.println("Parsing using format " + format);
-                return format(frenchDate, outputFormat);
-            } catch (DateTimeParseException e) {
-                // We'll print an error just below
-            }
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.getDefault(), method);
+        StringBuilder result = new StringBuilder();
+        GregorianDateParser parser = new GregorianDateParser();
+        GregorianFormat gregorianFormat;
+        try {
+            gregorianFormat = g2f(parser.parse(gregorianDateString), frc, FrenchDateFormatter.ofPattern(outputFormat), parser, result);
+        } catch (IllegalArgumentException e) {
+            // The date is outside the range of the calculation method.
+            System.err.println("Date not supported by method " + method + ": " + gregorianDateString);
+            return null;
+        }
+        if (gregorianFormat != null) {
+            System.err.println("Parsing using format " + gregorianFormat.pattern);
+            return result.toString();
         }
         System.err.println("Unrecognized Gregorian date format: " + gregorianDateString + ". Supported formats are:");
-        for (String format : FORMATS)
-            System.err.println("  " + format);
+        for (GregorianFormat format : GregorianFormat.values())
+            System.err.println("  " + format.pattern);
         return null;
     }
 
     /**
-     * @return a String representation of the given French date, using the given format.
+     * Convert the given local date and time in the Gregorian calendar to the French Revolutionary Calendar, and append
+     * the result to the given output.
+     *
+     * @param localSeconds the local date and time read by the given parser
+     * @param parser the parser of the Gregorian dates, which remembers the format of the previous date
+     * @return the format of the Gregorian date, or null if it doesn't match any of the supported formats. In that case,
+     * nothing is appended to the output.
+     */
+    private static GregorianFormat g2f(long localSeconds, FrenchRevolutionaryCalendar frc, FrenchDateFormatter outputFormatter,
+                                       GregorianDateParser parser, Appendable output) {
+        if (localSeconds == GregorianDateParser.INVALID) return null;
+        long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+        long packedDate = frc.getPackedDate(epochDay, (int) (localSeconds - epochDay * SECONDS_PER_DAY));
+        GregorianFormat format = parser.getLastFormat();
+        (format == GregorianFormat.TIME_ONLY ? TIME_ONLY_FORMATTER : outputFormatter).formatTo(packedDate, Locale.getDefault(), output);
+        return format;
+    }
+
+    /**
+     * Convert the Gregorian dates or timestamps in the given file, or in the standard input if the file name is null,
+     * one per line, and print the French dates, one per line.
      */
-    private static String format(FrenchRevolutionaryCalendarDate frenchDate, String outputFormat) {
-        String result = outputFormat;
-        result = result.replaceAll("%y", String.format("%d", frenchDate.year));
-        result = result.replaceAll("%MMMM", frenchDate.getMonthName());
-        result = result.replaceAll("%MM", String.format("%02d", frenchDate.month));
-        result = result.replaceAll("%M", String.format("%d", frenchDate.month));
-
-        result = result.replaceAll("%dd", String.format("%02d", frenchDate.dayOfMonth));
-        result = result.replaceAll("%d", String.format("%d", frenchDate.dayOfMonth));
-        result = result.replaceAll("%H", String.format("%d", frenchDate.hour));
-        result = result.replaceAll("%mm", String.format("%02d", frenchDate.minute));
-        result = result.replaceAll("%ss", String.format("%02d", frenchDate.second));
-
-        result = result.replaceAll("%E", frenchDate.getWeekdayName());
-        result = result.replaceAll("%W", String.format("%d", frenchDate.getWeekInMonth()));
-        result = result.replaceAll("%T", frenchDate.getObjectTypeName());
-        result = result.replaceAll("%DDDD", frenchDate.getObjectOfTheDay());
-        return result;
+    private static void g2fBatch(String fileName, CalculationMethod method, String outputFormat) {
+        Writer output = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), BATCH_BUFFER_SIZE);
+        int errorCount;
+        try (InputStream input = fileName == null ? new FileInputStream(FileDescriptor.in) : new FileInputStream(fileName)) {
+            errorCount = g2fBatch(input, output, method, outputFormat);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Couldn't convert " + (fileName == null ? "the standard input" : fileName) + ": " + e.getMessage());
+            System.exit(-1);
+            return;
+        }
+        if (errorCount > 0) {
+            System.err.println(errorCount + " lines could not be converted");
+            System.exit(-1);
+        }
+    }
+
+    /**
+     * Convert the Gregorian dates or timestamps read from the given input, one per line, and write the French dates to
+     * the given output, one per line. The same calendar, parser and formatter are used for
+     * all the lines.
+     *
+     * The lines are read as bytes, and the dates are parsed directly from the bytes, without decoding them to strings.
+     * An empty line is written for each line which can't be converted, so that the output lines match the input lines,
+     * and the error is printed on the standard error.
+     *
+     * @return the number of lines which couldn't be converted
+     */
+    static int g2fBatch(InputStream input, Writer output, CalculationMethod method, String outputFormat) throws IOException {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.getDefault(), method);
+        FrenchDateFormatter outputFormatter = FrenchDateFormatter.ofPattern(outputFormat);
+        GregorianDateParser parser = new GregorianDateParser();
+        String lineSeparator = System.lineSeparator();
+        int errorCount = 0;
+        int lineNumber = 0;
+        byte[] buffer = new byte[BATCH_BUFFER_SIZE];
+        // The current line starts at lineStart. The bytes from lineStart to position don't have the end of the line.
+        int lineStart = 0;
+        int position = 0;
+        int limit = 0;
+        // A line which ends with \r may be followed by \n.
+        boolean skipLineFeed = false;
+        while (true) {
+            if (position == limit) {
+                // Move the beginning of the current line to the beginning of the buffer, and read more bytes.
+                int pending = limit - lineStart;
+                if (pending == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                System.arraycopy(buffer, lineStart, buffer, 0, pending);
+                lineStart = 0;
+                position = pending;
+                limit = pending;
+                int count = input.read(buffer, limit, buffer.length - limit);
+                if (count < 0) break;
+                limit += count;
+                continue;
+            }
+            byte b = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == '\n') {
+                    lineStart = position;
+                    continue;
+                }
+            }
+            if (b == '\n' || b == '\r') {
+                lineNumber++;
+                if (!g2fLine(buffer, lineStart, position - 1, lineNumber, frc, outputFormatter, parser, output, method)) errorCount++;
+                output.write(lineSeparator);
+                lineStart = position;
+                skipLineFeed = b == '\r';
+            }
+        }
+        // The last line may not have a line separator.
+        if (limit > lineStart) {
+            lineNumber++;
+            if (!g2fLine(buffer, lineStart, limit, lineNumber, frc, outputFormatter, parser, output, method)) errorCount++;
+            output.write(lineSeparator);
+        }
+        output.flush();
+        return errorCount;
+    }
+
+    /**
+     * Convert the Gregorian date or timestamp of the given line of UTF-8 bytes, without its line separator, and append
+     * the French date to the given output. Nothing is appended for a blank line.
+     *
+     * @return false if the line couldn't be converted. The error is printed on the standard error.
+     */
+    private static boolean g2fLine(byte[] buffer, int lineStart, int lineEnd, int lineNumber, FrenchRevolutionaryCalendar frc,
+                                   FrenchDateFormatter outputFormatter, GregorianDateParser parser, Appendable output,
+                                   CalculationMethod method) throws IOException {
+        // Trim the line, like String.trim.
+        int start = lineStart;
+        int end = lineEnd;
+        while (start < end && (buffer[start] & 0xff) <= ' ') start++;
+        while (end > start && (buffer[end - 1] & 0xff) <= ' ') end--;
+        if (start == end) return true;
+        try {
+            if (g2f(parser.parse(buffer, start, end - start), frc, outputFormatter, parser, output) != null) return true;
+            System.err.println("Line " + lineNumber + ": unrecognized Gregorian date: "
+                    + new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            // The date is outside the range of the calculation method.
+            System.err.println("Line " + lineNumber + ": date not supported by method " + method + ": "
+                    + new String(buffer, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+        }
+        return false;
+    }
+
+    /**
+     * Write a file with the French dates of the days from the given start date (inclusive) to the given end date
+     * (exclusive), for all the calculation methods. The file can be used with FrenchRevolutionaryCalendar.withDayTable.
+     */
+    static void writeDayTable(String fileName, String startDate, String endDate) {
+        try {
+            FrenchDayTableFile.write(new File(fileName), LocalDate.parse(startDate), LocalDate.parse(endDate));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            System.err.println("Invalid range: " + startDate + " to " + endDate + ": " + e.getMessage());
+            System.exit(-1);
+        } catch (IOException e) {
+            System.err.println("Couldn't write " + fileName + ": " + e.getMessage());
+            System.exit(-1);
+        }
     }
 
     /**
@@ -169,7 +287,8 @@ class FrenchRevolutionaryCalendarCLI {
      * Display the program options and exit.
      */
     private static void usage() {
-        System.err.println(getProgramName() + " [options] now | g2f <Gregorian date>");
+        System.err.println(getProgramName() + " [options] now | g2f <Gregorian date> | g2f-batch [file] | day-table <file> <start date> <end date>");
+        System.err.println("g2f-batch converts the Gregorian dates of the file, or of the standard input, one per line.");
         System.err.println("options:");
         System.err.println("-method <romme|equinox|von_madler>");
         System.err.println("-output-format <output format>: default: %E, %dd-%MMMM-%y, %H:%mm:%ss, %T:%DDDD");
@@ -0,0 +1,260 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.cli;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Reads the local date and time of Gregorian dates in the formats of {@link GregorianFormat}.
+ *
+ * The dates are read character by character, without creating any objects, from strings or from ASCII bytes.
+ * The dates which are rare in logs are read with the formatter of their format instead:
+ * times without dates, years before 1583 or with more than four digits, values which the formatters would adjust
+ * (like 24:00:00), local times skipped by a change of the offset of their time zone, and dates with time zone names
+ * before 1901.
+ *
+ * The French date of a Gregorian date is the French date of its local date and time, in its own time zone. For
+ * example, both 11:30:30+0200 and 11:30:30 PDT are 4:79:51. Like with {@link GregorianFormat#parse}, the local time is
+ * the one of the {@link java.util.GregorianCalendar} of the date: before 1900, java.util.TimeZone doesn't have the
+ * offsets of java.time, so the local time of a date with a time zone name may not be the time in the text.
+ *
+ * Instances keep the format and the time zone of the previous date, and aren't thread-safe.
+ */
+final class GregorianDateParser {
+
+    /**
+     * The result of {@link #parse} for a text which isn't a valid date of the supported formats.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final long NOT_PARSED = Long.MIN_VALUE + 1;
+    private static final int SECONDS_PER_DAY = 86400;
+
+    // The number of days between 0000-03-01 and 1970-01-01.
+    private static final long DAYS_0000_TO_1970 = 719468L;
+    private static final long DAYS_IN_400_YEARS = 146097L;
+
+    // Like java.util.GregorianCalendar, the dates before the year 1583 may be in the Julian calendar.
+    private static final int FIRST_GREGORIAN_YEAR = 1583;
+    // java.util.TimeZone and java.time have the same offsets from 1900: the local time of the later dates with a time
+    // zone name is the time in the text, unless it's skipped.
+    private static final int FIRST_TIME_ZONE_YEAR = 1901;
+
+    private final TimeZone defaultTimeZone = TimeZone.getDefault();
+    private final Map<String, TimeZone> timeZones = new HashMap<>();
+    private final AsciiBytes asciiBytes = new AsciiBytes();
+    private String lastZoneName;
+    private TimeZone lastTimeZone;
+    private GregorianFormat lastFormat;
+
+    /**
+     * @return the format of the last date which was read successfully, or null if no date was read yet.
+     */
+    GregorianFormat getLastFormat() {
+        return lastFormat;
+    }
+
+    /**
+     * @return the local date and time of the given text, as a number of seconds since 1970-01-01 00:00:00, or
+     * {@link #INVALID} if the text isn't a date in one of the supported formats.
+     */
+    long parse(CharSequence text) {
+        GregorianFormat format = GregorianFormat.detect(text, lastFormat);
+        if (format == null) return INVALID;
+        long result = parseLocalSeconds(format, text);
+        if (result == NOT_PARSED) result = parseWithFormatter(format, text);
+        if (result != INVALID) lastFormat = format;
+        return result;
+    }
+
+    /**
+     * @param input ASCII characters
+     * @return the local date and time of the text in the given bytes, as a number of seconds since 1970-01-01 00:00:00,
+     * or {@link #INVALID} if the text isn't a date in one of the supported formats.
+     */
+    long parse(byte[] input, int offset, int length) {
+        asciiBytes.set(input, offset, length);
+        return parse(asciiBytes);
+    }
+
+    /**
+     * @return the local date and time of the given text, or {@link #NOT_PARSED} if it must be read by the formatter.
+     */
+    private long parseLocalSeconds(GregorianFormat format, CharSequence text) {
+        if (format == GregorianFormat.TIME_ONLY || GregorianFormat.getDateEnd(text) != 10) return NOT_PARSED;
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 2);
+        int dayOfMonth = parseDigits(text, 8, 2);
+        if (year < FIRST_GREGORIAN_YEAR || month < 1 || month > 12 || dayOfMonth < 1 || dayOfMonth > getLengthOfMonth(year, month)) {
+            return NOT_PARSED;
+        }
+        int secondOfDay = 0;
+        if (format != GregorianFormat.DATE_ONLY) {
+            int hour = parseDigits(text, 11, 2);
+            int minute = parseDigits(text, 14, 2);
+            int second = parseDigits(text, 17, 2);
+            if (hour > 23 || minute > 59 || second > 59) return NOT_PARSED;
+            secondOfDay = hour * 3600 + minute * 60 + second;
+        }
+        long localSeconds = toEpochDay(year, month, dayOfMonth) * SECONDS_PER_DAY + secondOfDay;
+
+        final TimeZone timeZone;
+        if (format == GregorianFormat.ISO_TZ_OFFSET || format == GregorianFormat.FULL_TZ_OFFSET) {
+            // Every local time exists with a fixed offset: we only check that the offset is valid.
+            int offsetStart = text.length() - 4;
+            int offsetHours = parseDigits(text, offsetStart, 2);
+            int offsetMinutes = parseDigits(text, offsetStart + 2, 2);
+            return offsetMinutes < 60 && offsetHours * 60 + offsetMinutes <= 18 * 60 ? localSeconds : NOT_PARSED;
+        } else if (format == GregorianFormat.ISO_TZ_NAME || format == GregorianFormat.FULL_TZ_NAME) {
+            if (year < FIRST_TIME_ZONE_YEAR) return NOT_PARSED;
+            timeZone = getTimeZone(text, format.getZoneNameStart(10));
+            if (timeZone == null) return NOT_PARSED;
+        } else {
+            timeZone = defaultTimeZone;
+        }
+        return exists(localSeconds * 1000, timeZone) ? localSeconds : NOT_PARSED;
+    }
+
+    /**
+     * @return the local date and time of the given text, read with the formatter of its format, or {@link #INVALID}
+     */
+    private long parseWithFormatter(GregorianFormat format, CharSequence text) {
+        String string = text.toString();
+        long result;
+        try {
+            result = format.parse(string);
+        } catch (DateTimeParseException e) {
+            // The date has the right format, but invalid values.
+            return INVALID;
+        }
+        int zoneNameStart = format.getZoneNameStart(GregorianFormat.getDateEnd(string));
+        if (zoneNameStart >= 0) {
+            String zoneName = string.substring(zoneNameStart);
+            if (!timeZones.containsKey(zoneName)) {
+                timeZones.put(zoneName, TimeZone.getTimeZone(ZonedDateTime.parse(string, format.formatter).getZone()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the time zone with the name at the given position of the text, if it was already read by a formatter,
+     * or null.
+     */
+    private TimeZone getTimeZone(CharSequence text, int start) {
+        if (lastZoneName != null && regionMatches(text, start, lastZoneName)) return lastTimeZone;
+        String zoneName = text.subSequence(start, text.length()).toString();
+        TimeZone timeZone = timeZones.get(zoneName);
+        if (timeZone != null) {
+            lastZoneName = zoneName;
+            lastTimeZone = timeZone;
+        }
+        return timeZone;
+    }
+
+    private static boolean regionMatches(CharSequence text, int start, String s) {
+        if (text.length() - start != s.length()) return false;
+        for (int i = 0; i < s.length(); i++) {
+            if (text.charAt(start + i) != s.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the given local time is skipped in the given time zone, when its offset increases.
+     */
+    private static boolean exists(long localMillis, TimeZone timeZone) {
+        int offset = timeZone.getOffset(localMillis);
+        if (timeZone.getOffset(localMillis - offset) == offset) return true;
+        offset = timeZone.getOffset(localMillis - offset);
+        return timeZone.getOffset(localMillis - offset) == offset;
+    }
+
+    /**
+     * @return the number of days since 1970-01-01 of the given date, in the Gregorian calendar. The year must be
+     * positive.
+     */
+    private static long toEpochDay(int year, int month, int dayOfMonth) {
+        // The algorithm considers that years start in March, so that the leap day is the last day of the year.
+        // See http://howardhinnant.github.io/date_algorithms.html
+        int y = month <= 2 ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_IN_400_YEARS + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    private static int getLengthOfMonth(int year, int month) {
+        if (month == 2) return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * @return the number with the given digits. The characters must have been checked to be digits.
+     */
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            result = result * 10 + (text.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    /**
+     * A view of ASCII bytes as characters.
+     */
+    private static final class AsciiBytes implements CharSequence {
+        private byte[] bytes;
+        private int offset;
+        private int length;
+
+        void set(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[offset + index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(bytes, offset + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
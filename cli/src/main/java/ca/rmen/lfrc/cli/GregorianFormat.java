@@ -0,0 +1,208 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.cli;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.GregorianCalendar;
+
+/**
+ * The formats of the Gregorian dates supported by the command-line program.
+ *
+ * The format of a date is detected from the positions of its separators, so that a date is only parsed with the
+ * formatter of its format, and a date which doesn't match a format doesn't cost an exception.
+ */
+enum GregorianFormat {
+
+    ISO_TZ_OFFSET("yyyy-MM-dd'T'HH:mm:ssZ") {
+        @Override
+        boolean matches(CharSequence text, int dateEnd) {
+            return hasTime(text, dateEnd, 'T') && isOffset(text, dateEnd + 9);
+        }
+    },
+    ISO_TZ_NAME("yyyy-MM-dd'T'HH:mm:ssz") {
+        @Override
+        boolean matches(CharSequence text, int dateEnd) {
+            return hasTime(text, dateEnd, 'T') && text.length() > dateEnd + 9 && !isOffset(text, dateEnd + 9);
+        }
+    },
+    FULL_TZ_OFFSET("yyyy-MM-dd HH:mm:ss Z") {
+        @Override
+        boolean matches(CharSequence text, int dateEnd) {
+            return hasTime(text, dateEnd, ' ') && hasZone(text, dateEnd) && isOffset(text, dateEnd + 10);
+        }
+    },
+    FULL_TZ_NAME("yyyy-MM-dd HH:mm:ss z") {
+        @Override
+        boolean matches(CharSequence text, int dateEnd) {
+            return hasTime(text, dateEnd, ' ') && hasZone(text, dateEnd) && !isOffset(text, dateEnd + 10);
+        }
+    },
+    FULL("yyyy-MM-dd HH:mm:ss") {
+        @Override
+        boolean matches(CharSequence text, int dateEnd) {
+            return hasTime(text, dateEnd, ' ') && text.length() == dateEnd + 9;
+        }
+
+        @Override
+        long parse(String text) {
+            LocalDateTime date = LocalDateTime.parse(text, formatter);
+            return getLocalSeconds(new GregorianCalendar(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth(), date.getHour(), date.getMinute(), date.getSecond()));
+        }
+    },
+    DATE_ONLY("yyyy-MM-dd") {
+        @Override
+        boolean matches(CharSequence text, int dateEnd) {
+            return dateEnd == text.length();
+        }
+
+        @Override
+        long parse(String text) {
+            LocalDate date = LocalDate.parse(text, formatter);
+            return getLocalSeconds(new GregorianCalendar(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth()));
+        }
+    },
+    TIME_ONLY("HH:mm:ss") {
+        @Override
+        boolean matches(CharSequence text, int dateEnd) {
+            return text.length() == 8 && isTime(text, 0);
+        }
+
+        @Override
+        long parse(String text) {
+            LocalTime time = LocalTime.parse(text, formatter);
+            return getLocalSeconds(GregorianCalendar.from(ZonedDateTime.of(LocalDate.now(), time, ZoneId.systemDefault())));
+        }
+    };
+
+    final String pattern;
+    final DateTimeFormatter formatter;
+
+    GregorianFormat(String pattern) {
+        this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
+    }
+
+    /**
+     * @param dateEnd the position after the "yyyy-MM-dd" date at the beginning of the text, or -1 if the text
+     *                doesn't start with a date.
+     * @return true if the text has the separators of this format at the right positions. The text may still be
+     * invalid, for example if the month is 13.
+     */
+    abstract boolean matches(CharSequence text, int dateEnd);
+
+    /**
+     * @return the local date and time of the {@link GregorianCalendar} of the given text, which matches this format, as a
+     * number of seconds since 1970-01-01 00:00:00. A local time which doesn't exist in the time zone of the date is
+     * moved forward.
+     * @throws java.time.format.DateTimeParseException if the text is invalid
+     */
+    long parse(String text) {
+        return getLocalSeconds(GregorianCalendar.from(ZonedDateTime.parse(text, formatter)));
+    }
+
+    /**
+     * Dates without time zones are read in the default time zone, and dates before 15 October 1582 in the Julian calendar,
+     * like the French dates of {@link java.util.GregorianCalendar}s. The local time of a date with a time zone is read
+     * with the offsets of {@link java.util.TimeZone}, which doesn't have the historical offsets of java.time before
+     * 1900: for example, 1800-01-01 00:00:00 Europe/Paris is read as 00:50:39.
+     */
+    private static long getLocalSeconds(GregorianCalendar cal) {
+        long millis = cal.getTimeInMillis();
+        return Math.floorDiv(millis + cal.getTimeZone().getOffset(millis), 1000L);
+    }
+
+    /**
+     * @param dateEnd the position after the date at the beginning of a text of this format
+     * @return the position of the time zone name in the text, or -1 if this format has no time zone name
+     */
+    int getZoneNameStart(int dateEnd) {
+        if (this == ISO_TZ_NAME) return dateEnd + 9;
+        if (this == FULL_TZ_NAME) return dateEnd + 10;
+        return -1;
+    }
+
+    /**
+     * @param lastFormat the format of the previous date, which is tried first, or null
+     * @return the format of the given text, or null if it doesn't match any of the formats
+     */
+    static GregorianFormat detect(CharSequence text, GregorianFormat lastFormat) {
+        int dateEnd = getDateEnd(text);
+        if (lastFormat != null && lastFormat.matches(text, dateEnd)) return lastFormat;
+        for (GregorianFormat format : values()) {
+            if (format.matches(text, dateEnd)) return format;
+        }
+        return null;
+    }
+
+    /**
+     * @return the position after the "yyyy-MM-dd" date at the beginning of the text, or -1 if the text doesn't start
+     * with a date. Years with more than four digits have a sign, as expected by the formatters.
+     */
+    static int getDateEnd(CharSequence text) {
+        int yearStart = text.length() > 0 && (text.charAt(0) == '+' || text.charAt(0) == '-') ? 1 : 0;
+        int yearEnd = yearStart;
+        while (yearEnd < text.length() && isDigit(text, yearEnd)) yearEnd++;
+        if (yearEnd - yearStart < 4 || yearEnd + 6 > text.length()) return -1;
+        if (text.charAt(yearEnd) != '-' || !isDigit(text, yearEnd + 1) || !isDigit(text, yearEnd + 2)
+                || text.charAt(yearEnd + 3) != '-' || !isDigit(text, yearEnd + 4) || !isDigit(text, yearEnd + 5)) {
+            return -1;
+        }
+        return yearEnd + 6;
+    }
+
+    /**
+     * @return true if the date ending at the given position is followed by the given separator and a time.
+     */
+    private static boolean hasTime(CharSequence text, int dateEnd, char separator) {
+        return dateEnd > 0 && text.length() >= dateEnd + 9 && text.charAt(dateEnd) == separator && isTime(text, dateEnd + 1);
+    }
+
+    /**
+     * @return true if the date and time starting at the given position are followed by a space and a time zone.
+     */
+    private static boolean hasZone(CharSequence text, int dateEnd) {
+        return text.length() > dateEnd + 10 && text.charAt(dateEnd + 9) == ' ';
+    }
+
+    private static boolean isTime(CharSequence text, int start) {
+        return isDigit(text, start) && isDigit(text, start + 1) && text.charAt(start + 2) == ':'
+                && isDigit(text, start + 3) && isDigit(text, start + 4) && text.charAt(start + 5) == ':'
+                && isDigit(text, start + 6) && isDigit(text, start + 7);
+    }
+
+    /**
+     * @return true if the text ends with a "+HHMM" offset at the given position. Other offsets, like "+02:00", are
+     * parsed by the formats with time zone names.
+     */
+    private static boolean isOffset(CharSequence text, int start) {
+        return text.length() == start + 5 && (text.charAt(start) == '+' || text.charAt(start) == '-')
+                && isDigit(text, start + 1) && isDigit(text, start + 2) && isDigit(text, start + 3) && isDigit(text, start + 4);
+    }
+
+    static boolean isDigit(CharSequence text, int index) {
+        char c = text.charAt(index);
+        return c >= '0' && c <= '9';
+    }
+}
@@ -19,10 +19,23 @@
  */
 package ca.rmen.lfrc.cli;
 
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar;
 import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class TestFrenchRevolutionaryCalendarCLI {
 
@@ -46,6 +59,14 @@ public class TestFrenchRevolutionaryCalendarCLI {
         testG2f("2014-11-30 00:00:01 CET", "Décadi, 10-Frimaire-223, 0:00:01, The tool:Pickaxe", CalculationMethod.ROMME);
     }
 
+    @Test
+    public void testG2fTimeZoneBefore1900() {
+        // java.util.TimeZone doesn't have the local mean time of Paris, 00:09:21 ahead of UTC, but one hour.
+        testG2f("1800-01-01 00:00:00 Europe/Paris", "0:35:17", CalculationMethod.ROMME, "%H:%mm:%ss");
+        testG2f("1800-01-01T00:00:00Europe/Paris", "0:35:17", CalculationMethod.ROMME, "%H:%mm:%ss");
+        testG2f("1800-01-01 00:00:00 +0100", "0:00:00", CalculationMethod.ROMME, "%H:%mm:%ss");
+    }
+
     @Test
     public void testG2fDateAndTimeRommeFullTimestamp2() {
         testG2f("2011-07-08 11:30:30 +0200", "Décadi, 20-Messidor-219, 4:79:51, The tool:Pen", CalculationMethod.ROMME);
@@ -86,6 +107,148 @@ public class TestFrenchRevolutionaryCalendarCLI {
         testG2f("12:00:00", "5:00:00", CalculationMethod.EQUINOX);
     }
 
+    @Test
+    public void testG2fOtherOffsets() {
+        testG2f("2011-07-08T11:30:30-0700", "Décadi, 20-Messidor-219, 4:79:51, The tool:Pen", CalculationMethod.ROMME);
+        testG2f("2011-07-08T11:30:30+02:00", "Décadi, 20-Messidor-219, 4:79:51, The tool:Pen", CalculationMethod.ROMME);
+        testG2f("2011-07-08 11:30:30 Europe/Paris", "Décadi, 20-Messidor-219, 4:79:51, The tool:Pen", CalculationMethod.ROMME);
+    }
+
+    @Test
+    public void testG2fUnrecognized() {
+        testG2f("2011-07-8", null, CalculationMethod.ROMME);
+        testG2f("2011-13-08", null, CalculationMethod.ROMME);
+        testG2f("2011-07-08 11:30", null, CalculationMethod.ROMME);
+        testG2f("2011-07-08T11:30:30", null, CalculationMethod.ROMME);
+        testG2f("2011-07-08 11:30:30 +02", null, CalculationMethod.ROMME);
+        testG2f("11:30", null, CalculationMethod.ROMME);
+        testG2f("", null, CalculationMethod.ROMME);
+    }
+
+    @Test
+    public void testG2fUnsupportedDate() {
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        PrintStream stderr = System.err;
+        System.setErr(new PrintStream(errors, true));
+        try {
+            testG2f("4000-01-01", null, CalculationMethod.EQUINOX);
+        } finally {
+            System.setErr(stderr);
+        }
+        assertEquals("Date not supported by method EQUINOX: 4000-01-01" + System.lineSeparator(), errors.toString());
+    }
+
+    @Test
+    public void testDetectGregorianFormat() {
+        assertEquals(GregorianFormat.ISO_TZ_OFFSET, GregorianFormat.detect("2011-07-08T11:30:30+0200", null));
+        assertEquals(GregorianFormat.ISO_TZ_NAME, GregorianFormat.detect("2011-07-08T11:30:30PDT", null));
+        assertEquals(GregorianFormat.FULL_TZ_OFFSET, GregorianFormat.detect("2011-07-08 11:30:30 -0700", null));
+        assertEquals(GregorianFormat.FULL_TZ_NAME, GregorianFormat.detect("2011-07-08 11:30:30 CEST", null));
+        assertEquals(GregorianFormat.FULL, GregorianFormat.detect("2011-07-08 11:30:30", null));
+        assertEquals(GregorianFormat.DATE_ONLY, GregorianFormat.detect("2011-07-08", null));
+        assertEquals(GregorianFormat.DATE_ONLY, GregorianFormat.detect("+12011-07-08", GregorianFormat.FULL));
+        assertEquals(GregorianFormat.TIME_ONLY, GregorianFormat.detect("11:30:30", GregorianFormat.DATE_ONLY));
+        assertEquals(GregorianFormat.FULL, GregorianFormat.detect("2011-07-08 11:30:30", GregorianFormat.FULL));
+        assertNull(GregorianFormat.detect("2011/07/08", null));
+        assertNull(GregorianFormat.detect("2011-07-08 11:30:30 ", null));
+        assertNull(GregorianFormat.detect("201-07-08", null));
+    }
+
+    @Test
+    public void testG2fBatch() throws IOException {
+        String input = "2011-07-08\n"
+                + "1796-08-04 11:30:30\n"
+                + "\n"
+                + "not a date\n"
+                + "  2011-07-08T11:30:30+0200  \n"
+                + "12:00:00";
+        StringWriter output = new StringWriter();
+        int errorCount = FrenchRevolutionaryCalendarCLI.g2fBatch(toInputStream(input), output,
+                CalculationMethod.ROMME, "%E, %dd-%MMMM-%y, %H:%mm:%ss, %T:%DDDD");
+        assertEquals(1, errorCount);
+        String lineSeparator = System.lineSeparator();
+        assertEquals("Décadi, 20-Messidor-219, 0:00:00, The tool:Pen" + lineSeparator
+                + "Septidi, 17-Thermidor-4, 4:79:51, The plant:Flax" + lineSeparator
+                + lineSeparator
+                + lineSeparator
+                + "Décadi, 20-Messidor-219, 4:79:51, The tool:Pen" + lineSeparator
+                + "5:00:00" + lineSeparator, output.toString());
+    }
+
+    @Test
+    public void testG2fBatchLineSeparators() throws IOException {
+        String input = "2011-07-08\r\n"
+                + "1796-08-04 11:30:30\r"
+                + "\r\n"
+                + "12:00:00\n";
+        StringWriter output = new StringWriter();
+        int errorCount = FrenchRevolutionaryCalendarCLI.g2fBatch(toInputStream(input), output, CalculationMethod.ROMME, "%dd/%MM/%y %H:%mm:%ss");
+        assertEquals(0, errorCount);
+        String lineSeparator = System.lineSeparator();
+        assertEquals("20/10/219 0:00:00" + lineSeparator
+                + "17/11/4 4:79:51" + lineSeparator
+                + lineSeparator
+                + "5:00:00" + lineSeparator, output.toString());
+    }
+
+    @Test
+    public void testG2fBatchLongInput() throws IOException {
+        // More lines than the buffer can hold, and a line longer than the buffer.
+        StringBuilder input = new StringBuilder();
+        StringBuilder expectedOutput = new StringBuilder();
+        String lineSeparator = System.lineSeparator();
+        for (int i = 0; i < 10000; i++) {
+            input.append("2011-07-08 11:30:30\n");
+            expectedOutput.append("20/10/219").append(lineSeparator);
+        }
+        for (int i = 0; i < 100000; i++) input.append(' ');
+        input.append("2011-07-08\n");
+        expectedOutput.append("20/10/219").append(lineSeparator);
+        StringWriter output = new StringWriter();
+        int errorCount = FrenchRevolutionaryCalendarCLI.g2fBatch(toInputStream(input.toString()), output, CalculationMethod.ROMME, "%dd/%MM/%y");
+        assertEquals(0, errorCount);
+        assertEquals(expectedOutput.toString(), output.toString());
+    }
+
+    @Test
+    public void testG2fBatchUnsupportedDate() throws IOException {
+        String input = "2011-07-08\n"
+                + "4000-01-01\n"
+                + "not a date\n";
+        StringWriter output = new StringWriter();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        PrintStream stderr = System.err;
+        System.setErr(new PrintStream(errors, true));
+        int errorCount;
+        try {
+            errorCount = FrenchRevolutionaryCalendarCLI.g2fBatch(toInputStream(input), output,
+                    CalculationMethod.EQUINOX, "%dd/%MM/%y");
+        } finally {
+            System.setErr(stderr);
+        }
+        assertEquals(2, errorCount);
+        String lineSeparator = System.lineSeparator();
+        assertEquals("19/10/219" + lineSeparator + lineSeparator + lineSeparator, output.toString());
+        assertEquals("Line 2: date not supported by method EQUINOX: 4000-01-01" + lineSeparator
+                + "Line 3: unrecognized Gregorian date: not a date" + lineSeparator, errors.toString());
+    }
+
+    @Test
+    public void testDayTable() throws IOException {
+        File file = File.createTempFile("days", ".bin");
+        try {
+            FrenchRevolutionaryCalendarCLI.writeDayTable(file.getPath(), "2000-01-01", "2100-01-01");
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+            assertEquals(frc.getDate(LocalDate.of(2011, 7, 8)), frc.withDayTable(file).getDate(LocalDate.of(2011, 7, 8)));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static InputStream toInputStream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
     private void testG2f(String gregorianDateString, String expectedFrenchString, CalculationMethod method) {
         testG2f(gregorianDateString, expectedFrenchString, method, "%E, %dd-%MMMM-%y, %H:%mm:%ss, %T:%DDDD");
     }
@@ -0,0 +1,136 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.cli;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate that the parser reads the same local dates and times as the formatters.
+ */
+public class TestGregorianDateParser {
+
+    private static final String[] ZONE_IDS = {"UTC", "Europe/Paris", "America/Los_Angeles", "Asia/Kolkata", "Australia/Lord_Howe"};
+    private static final String[] ZONE_NAMES = {"CET", "CEST", "PDT", "PST", "UTC", "Europe/Paris", "America/Sao_Paulo", "+05:30", "Z"};
+
+    // 1580-01-01 to 2100-01-01
+    private static final long START_MILLIS = -12502828800000L;
+    private static final long END_MILLIS = 4102444800000L;
+    private static final long STEP_MILLIS = 11 * 86400000L + 1234567L;
+
+    @Test
+    public void testParserMatchesFormatters() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            for (String zoneId : ZONE_IDS) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zoneId));
+                GregorianDateParser parser = new GregorianDateParser();
+                for (long millis = START_MILLIS; millis < END_MILLIS; millis += STEP_MILLIS) {
+                    ZonedDateTime date = ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.of(zoneId));
+                    for (GregorianFormat format : GregorianFormat.values()) {
+                        if (format == GregorianFormat.TIME_ONLY) continue;
+                        String text = DateTimeFormatter.ofPattern(format.pattern).format(date);
+                        if (format == GregorianFormat.ISO_TZ_NAME || format == GregorianFormat.FULL_TZ_NAME) {
+                            text = text.substring(0, format.getZoneNameStart(10)) + ZONE_NAMES[(int) ((millis & 0xffff) % ZONE_NAMES.length)];
+                        }
+                        assertParsed(parser, text);
+                    }
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void testSkippedLocalTimes() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+            GregorianDateParser parser = new GregorianDateParser();
+            // The clocks went from 02:00 to 03:00 on 2018-03-25 in Paris.
+            assertParsed(parser, "2018-03-25 02:30:00");
+            assertParsed(parser, "2018-03-25 03:30:00");
+            assertParsed(parser, "2018-03-25 02:30:00 Europe/Paris");
+            assertParsed(parser, "2018-03-25 02:30:00 Europe/Paris");
+            assertParsed(parser, "2018-03-25 02:30:00 +0100");
+            // Midnight didn't exist on 2018-11-04 in Sao Paulo.
+            assertParsed(parser, "2018-11-04T00:00:00America/Sao_Paulo");
+            assertEquals(GregorianFormat.ISO_TZ_NAME, parser.getLastFormat());
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void testAdjustedValues() {
+        GregorianDateParser parser = new GregorianDateParser();
+        assertParsed(parser, "2011-02-29");
+        assertParsed(parser, "2012-02-29");
+        assertParsed(parser, "2011-04-31 11:30:30");
+        assertParsed(parser, "2011-07-08 24:00:00");
+        assertParsed(parser, "1582-10-10");
+        assertParsed(parser, "+12011-07-08");
+        assertParsed(parser, "2011-07-08T11:30:30+1800");
+        assertParsed(parser, "2011-07-08T11:30:30+1801");
+        assertParsed(parser, "2011-07-08T11:30:30+0260");
+        assertParsed(parser, "2011-13-08");
+        assertParsed(parser, "2011-07-08 11:60:30");
+        assertParsed(parser, "2011-07-08 11:30:30 Unknown/Zone");
+    }
+
+    @Test
+    public void testParseBytes() {
+        GregorianDateParser parser = new GregorianDateParser();
+        byte[] input = "2011-07-08 11:30:30 +0200;2011-07-08T11:30:30PDT;not a date".getBytes(StandardCharsets.US_ASCII);
+        long expected = 1310124630L;
+        assertEquals(expected, parser.parse(input, 0, 25));
+        assertEquals(GregorianFormat.FULL_TZ_OFFSET, parser.getLastFormat());
+        assertEquals(expected, parser.parse(input, 26, 22));
+        assertEquals(GregorianFormat.ISO_TZ_NAME, parser.getLastFormat());
+        assertEquals(GregorianDateParser.INVALID, parser.parse(input, 49, 10));
+        assertEquals(GregorianFormat.ISO_TZ_NAME, parser.getLastFormat());
+    }
+
+    /**
+     * Validate that the parser reads the same local date and time as the formatter of the format of the text.
+     */
+    private static void assertParsed(GregorianDateParser parser, String text) {
+        long expected = GregorianDateParser.INVALID;
+        GregorianFormat format = GregorianFormat.detect(text, null);
+        if (format != null) {
+            try {
+                expected = format.parse(text);
+            } catch (DateTimeParseException e) {
+                // The text is invalid
+            }
+        }
+        assertEquals(text, expected, parser.parse(text));
+    }
+}
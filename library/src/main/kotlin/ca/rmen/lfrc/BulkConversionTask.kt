@@ -0,0 +1,111 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod
+import java.time.zone.ZoneRules
+import java.util.concurrent.RecursiveAction
+
+/**
+ * Converts the elements of arrays from fromIndex (inclusive) to toIndex (exclusive), splitting them into subtasks
+ * which run in parallel on a fork/join pool.
+ *
+ * When the input is sorted, the split is at the beginning of a French year, if there's one close to the middle.
+ * Each subtask has its own [BulkConverter], so it only looks up the years it converts.
+ *
+ * @author calvarez
+ */
+internal abstract class BulkConversionTask(
+        protected val calculationMethod: CalculationMethod,
+        protected val rules: ZoneRules,
+        private val fromIndex: Int,
+        private val toIndex: Int,
+        private val threshold: Int) : RecursiveAction() {
+
+    /**
+     * @return a task which converts the elements from fromIndex (inclusive) to toIndex (exclusive)
+     */
+    protected abstract fun createSubtask(fromIndex: Int, toIndex: Int, threshold: Int): BulkConversionTask
+
+    /**
+     * Converts the elements from fromIndex (inclusive) to toIndex (exclusive), one by one.
+     */
+    protected abstract fun convert(converter: BulkConverter, fromIndex: Int, toIndex: Int)
+
+    /**
+     * @return a value of the element at the given index, which is in ascending order if the input is in chronological order.
+     */
+    protected abstract fun getKey(index: Int): Long
+
+    /**
+     * @return the French year of the element at the given index, or null if it isn't supported.
+     */
+    protected abstract fun getYear(converter: BulkConverter, index: Int): Int?
+
+    /**
+     * @return the smallest key of the elements in the given French year, or [FrenchYears.NOT_SUPPORTED]
+     */
+    protected abstract fun getFirstKey(converter: BulkConverter, year: Int): Long
+
+    override fun compute() {
+        val converter = BulkConverter(calculationMethod, rules)
+        if (toIndex - fromIndex <= threshold) {
+            convert(converter, fromIndex, toIndex)
+        } else {
+            val splitIndex = getSplitIndex(converter)
+            invokeAll(createSubtask(fromIndex, splitIndex, threshold), createSubtask(splitIndex, toIndex, threshold))
+        }
+    }
+
+    /**
+     * @return the index of the first element of the French year which begins closest to the middle of the elements,
+     *         or the middle itself if no year begins in the middle half of the elements.
+     */
+    private fun getSplitIndex(converter: BulkConverter): Int {
+        val middle = (fromIndex + toIndex) ushr 1
+        val year = getYear(converter, middle) ?: return middle
+        val quarter = (toIndex - fromIndex) / 4
+        var result = middle
+        var distance = Int.MAX_VALUE
+        for (candidateYear in year..year + 1) {
+            val firstKey = getFirstKey(converter, candidateYear)
+            if (firstKey == FrenchYears.NOT_SUPPORTED) continue
+            val index = lowerBound(firstKey)
+            if (index >= fromIndex + quarter && index <= toIndex - quarter && Math.abs(index - middle) < distance) {
+                result = index
+                distance = Math.abs(index - middle)
+            }
+        }
+        return result
+    }
+
+    /**
+     * @return the index of the first element whose key isn't less than the given key, if the keys are sorted.
+     */
+    private fun lowerBound(key: Long): Int {
+        var low = fromIndex
+        var high = toIndex
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (getKey(middle) < key) low = middle + 1 else high = middle
+        }
+        return low
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneOffset
+import java.time.zone.ZoneRules
+
+/**
+ * Converts a series of dates, remembering the last French year and the last time zone offset it looked up.
+ * Consecutive dates in the same French year, and between the same time zone transitions, don't look them up again.
+ *
+ * Instances aren't thread-safe: each thread needs its own.
+ *
+ * @author calvarez
+ */
+internal class BulkConverter(private val calculationMethod: CalculationMethod, private val rules: ZoneRules) {
+
+    // The offset of the time zone from the instant offsetStart (inclusive) to the instant offsetEnd (exclusive), in epoch millis.
+    private var offsetMillis = 0
+    private var offsetStart = 0L
+    private var offsetEnd = 0L
+
+    // The French year which begins on the epoch day yearStart (inclusive), and ends on the epoch day yearEnd (exclusive).
+    private var year = 0
+    private var yearStart = 0L
+    private var yearEnd = 0L
+
+    /**
+     * @param epochMillis the number of milliseconds since 1970-01-01 00:00:00 UTC
+     *
+     * @return the French date and time of the given instant, or [FrenchYears.NOT_SUPPORTED]
+     */
+    fun getPackedDate(epochMillis: Long): Long {
+        val localMillis = epochMillis + getOffsetMillis(epochMillis)
+        val epochDay = EpochDays.floorDiv(localMillis, EpochDays.MILLIS_PER_DAY)
+        val yearAndDay = getYearAndDay(epochDay)
+        if (yearAndDay == FrenchYears.NOT_SUPPORTED) return FrenchYears.NOT_SUPPORTED
+        val secondOfDay = ((localMillis - epochDay * EpochDays.MILLIS_PER_DAY) / 1000).toInt()
+        return FrenchRevolutionaryCalendar.toPackedDate(yearAndDay, secondOfDay)
+    }
+
+    /**
+     * @param packedDate a French date and time, packed with [FrenchRevolutionaryCalendarPackedDate]
+     *
+     * @return the number of milliseconds since 1970-01-01 00:00:00 UTC of the given date, or [FrenchYears.NOT_SUPPORTED]
+     */
+    fun getEpochMillis(packedDate: Long): Long {
+        val firstDayOfYear = getFirstDayOfYear(FrenchRevolutionaryCalendarPackedDate.getYear(packedDate))
+        if (firstDayOfYear == FrenchYears.NOT_SUPPORTED) return FrenchYears.NOT_SUPPORTED
+        val epochDay = firstDayOfYear + FrenchRevolutionaryCalendarPackedDate.getDayInYear(packedDate) - 1
+        val localMillis = epochDay * EpochDays.MILLIS_PER_DAY + FrenchRevolutionaryCalendar.getMillisOfDay(packedDate)
+        return localMillis - getLocalOffsetMillis(localMillis, true)
+    }
+
+    /**
+     * @return the French year and day in the year of the given epoch day, like [FrenchYears.getYearAndDay]
+     */
+    fun getYearAndDay(epochDay: Long): Long {
+        if (epochDay >= yearStart && epochDay < yearEnd) return FrenchYears.yearAndDay(year.toLong(), epochDay - yearStart)
+        val yearAndDay = FrenchYears.getYearAndDay(calculationMethod, epochDay)
+        if (yearAndDay != FrenchYears.NOT_SUPPORTED) {
+            loadYear(FrenchYears.year(yearAndDay), epochDay - FrenchYears.dayInYear(yearAndDay))
+        }
+        return yearAndDay
+    }
+
+    /**
+     * @return the epoch day of 1 Vendémiaire of the given year, like [FrenchYears.getFirstDayOfYear]
+     */
+    fun getFirstDayOfYear(frenchYear: Int): Long {
+        if (frenchYear == year && yearStart < yearEnd) return yearStart
+        val firstDayOfYear = FrenchYears.getFirstDayOfYear(calculationMethod, frenchYear)
+        if (firstDayOfYear != FrenchYears.NOT_SUPPORTED) loadYear(frenchYear, firstDayOfYear)
+        return firstDayOfYear
+    }
+
+    /**
+     * @return the offset of the time zone at the given instant, in milliseconds
+     */
+    fun getOffsetMillis(epochMillis: Long): Int {
+        if (epochMillis < offsetStart || epochMillis >= offsetEnd) loadOffset(epochMillis)
+        return offsetMillis
+    }
+
+    /**
+     * @param localMillis a local date and time, as a number of milliseconds since 1970-01-01 00:00:00
+     * @param laterOffsetAtOverlap true if a local time which is repeated when the clocks go back gets the offset after
+     *        the transition, like with GregorianCalendar, false if it gets the offset before the transition, like with
+     *        java.time.
+     *
+     * @return the offset of the time zone at the given local date and time, in milliseconds.
+     *         A local time which is skipped when the clocks go forward gets the offset before the transition.
+     */
+    fun getLocalOffsetMillis(localMillis: Long, laterOffsetAtOverlap: Boolean): Int {
+        // Local times can only be skipped or repeated near a transition, and transitions are never longer than a day.
+        // Farther than that from the transitions, the local time has the offset between these transitions.
+        val epochMillis = localMillis - offsetMillis
+        if (epochMillis >= offsetStart + EpochDays.MILLIS_PER_DAY && epochMillis < offsetEnd - EpochDays.MILLIS_PER_DAY) {
+            return offsetMillis
+        }
+        val localDateTime = LocalDateTime.ofEpochSecond(EpochDays.floorDiv(localMillis, 1000), 0, ZoneOffset.UTC)
+        val transition = rules.getTransition(localDateTime)
+        val offset = if (transition != null && transition.isOverlap && laterOffsetAtOverlap) transition.offsetAfter else rules.getOffset(localDateTime)
+        val result = offset.totalSeconds * 1000
+        loadOffset(localMillis - result)
+        return result
+    }
+
+    private fun loadYear(frenchYear: Int, firstDayOfYear: Long) {
+        year = frenchYear
+        yearStart = firstDayOfYear
+        val nextFirstDayOfYear = FrenchYears.getFirstDayOfYear(calculationMethod, frenchYear + 1)
+        // If we don't know when the next year begins, we only remember the first day of this year.
+        yearEnd = if (nextFirstDayOfYear == FrenchYears.NOT_SUPPORTED) firstDayOfYear + 1 else nextFirstDayOfYear
+    }
+
+    private fun loadOffset(epochMillis: Long) {
+        val instant = Instant.ofEpochSecond(EpochDays.floorDiv(epochMillis, 1000))
+        offsetMillis = rules.getOffset(instant).totalSeconds * 1000
+        // Transitions are on whole seconds: the previous transition is the last one up to and including this second.
+        val previousTransition = rules.previousTransition(instant.plusSeconds(1))
+        val nextTransition = rules.nextTransition(instant)
+        offsetStart = if (previousTransition == null) Long.MIN_VALUE else previousTransition.toEpochSecond() * 1000
+        offsetEnd = if (nextTransition == null) Long.MAX_VALUE else nextTransition.toEpochSecond() * 1000
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneId
+
+/**
+ * A clock which gives the current date and decimal time in the French Revolutionary Calendar, like [Clock] does
+ * for the Gregorian calendar.
+ *
+ * The French date of the current day is looked up once, and kept until the next midnight in the time zone of the
+ * clock (or until the next change of the time zone offset). Until then, only the decimal time is computed, with
+ * [FrenchRevolutionaryCalendarDecimalTime]: [getPackedDate] and [getDecimalTime] create no objects.
+ *
+ * Instances are thread-safe.
+ *
+ * @param calendar converts the days to French dates, with its calculation method, table of days, and locale.
+ * @param clock gives the current instant and the time zone.
+ *
+ * @author calvarez
+ */
+class DecimalClock(private val calendar: FrenchRevolutionaryCalendar, private val clock: Clock) {
+
+    /**
+     * A clock with the current time of the system clock, in the given time zone.
+     */
+    constructor(calendar: FrenchRevolutionaryCalendar, zoneId: ZoneId) : this(calendar, Clock.system(zoneId))
+
+    /**
+     * The French date of a day at midnight, and the instants during which it's the current day.
+     * The offset of the time zone is the same from validFrom (inclusive) to validUntil (exclusive).
+     */
+    private class Day(val validFrom: Long, val validUntil: Long, val localDayStart: Long, val offsetMillis: Int, val packedDate: Long)
+
+    @Volatile
+    private var day = Day(0, 0, 0, 0, 0)
+
+    private val rules = clock.zone.rules
+
+    /**
+     * @return the time zone of this clock
+     */
+    val zone: ZoneId get() = clock.zone
+
+    /**
+     * @return a clock with the same calendar and the same source of the current instant, in the given time zone.
+     */
+    fun withZone(zoneId: ZoneId): DecimalClock = DecimalClock(calendar, clock.withZone(zoneId))
+
+    /**
+     * @return the current instant
+     */
+    fun instant(): Instant = clock.instant()
+
+    /**
+     * @return the current number of milliseconds since 1970-01-01 00:00:00 UTC
+     */
+    fun millis(): Long = clock.millis()
+
+    /**
+     * @return the current French date and decimal time, packed with [FrenchRevolutionaryCalendarPackedDate].
+     *         Like with [FrenchRevolutionaryCalendar.getPackedDate], the current second is rounded to the nearest
+     *         decimal second. [getDecimalTime] gives the decimal time to the decimal millisecond instead.
+     * @throws IllegalArgumentException if the current date isn't supported by the calculation method.
+     */
+    fun getPackedDate(): Long {
+        val millis = clock.millis()
+        val day = getDay(millis)
+        val secondOfDay = ((millis + day.offsetMillis - day.localDayStart) / 1000).toInt()
+        return day.packedDate or FrenchRevolutionaryCalendar.toPackedTime(secondOfDay)
+    }
+
+    /**
+     * @return the current decimal time, packed with [FrenchRevolutionaryCalendarDecimalTime].
+     */
+    fun getDecimalTime(): Int {
+        val millis = clock.millis()
+        val day = getDay(millis)
+        return FrenchRevolutionaryCalendarDecimalTime.ofMillisOfDay((millis + day.offsetMillis - day.localDayStart).toInt())
+    }
+
+    /**
+     * @return the current French date and decimal time, with the labels in the locale of the calendar.
+     * @throws IllegalArgumentException if the current date isn't supported by the calculation method.
+     */
+    fun getDate(): FrenchRevolutionaryCalendarDate = FrenchRevolutionaryCalendarPackedDate.toDate(getPackedDate(), calendar.locale)
+
+    private fun getDay(millis: Long): Day {
+        val day = this.day
+        if (millis >= day.validFrom && millis < day.validUntil) return day
+        return loadDay(millis)
+    }
+
+    private fun loadDay(millis: Long): Day {
+        val instant = Instant.ofEpochMilli(millis)
+        val offsetMillis = rules.getOffset(instant).totalSeconds * 1000
+        val localDayStart = EpochDays.floorDiv(millis + offsetMillis, EpochDays.MILLIS_PER_DAY) * EpochDays.MILLIS_PER_DAY
+        val packedDate = calendar.findPackedDate(localDayStart / EpochDays.MILLIS_PER_DAY, 0)
+        if (packedDate == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $instant")
+
+        // The day ends at the next midnight, or at the next change of the offset, whichever comes first.
+        // The transitions are on whole seconds: the previous transition is the last one up to and including this millisecond.
+        val previousTransition = rules.previousTransition(instant.plusMillis(1))
+        val nextTransition = rules.nextTransition(instant)
+        var validFrom = localDayStart - offsetMillis
+        var validUntil = localDayStart + EpochDays.MILLIS_PER_DAY - offsetMillis
+        if (previousTransition != null) validFrom = Math.max(validFrom, previousTransition.toEpochSecond() * 1000)
+        if (nextTransition != null) validUntil = Math.min(validUntil, nextTransition.toEpochSecond() * 1000)
+
+        val result = Day(validFrom, validUntil, localDayStart, offsetMillis, packedDate)
+        // Another thread may be loading the same day: either one is fine.
+        day = result
+        return result
+    }
+}
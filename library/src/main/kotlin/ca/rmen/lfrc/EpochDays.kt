@@ -0,0 +1,135 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+/**
+ * Conversions between Gregorian calendar dates and epoch days: the number of days since 1970-01-01.
+ *
+ * Like java.util.GregorianCalendar, dates before 15 October 1582 are in the Julian calendar. Years are
+ * astronomical: the year 0 is 1 BC, the year -1 is 2 BC, etc.
+ *
+ * Epoch days are the same as the ones of java.time.LocalDate.toEpochDay() from 15 October 1582 onwards.
+ *
+ * The algorithms come from http://howardhinnant.github.io/date_algorithms.html
+ *
+ * @author calvarez
+ */
+internal object EpochDays {
+
+    const val MILLIS_PER_DAY = 86_400_000L
+
+    // 1582-10-15: the first day of the Gregorian calendar.
+    private const val GREGORIAN_CUTOVER = -141427L
+
+    // The number of days between 0000-03-01 and 1970-01-01, in each calendar.
+    private const val GREGORIAN_DAYS_0000_TO_1970 = 719468L
+    private const val JULIAN_DAYS_0000_TO_1970 = 719470L
+
+    private const val DAYS_IN_400_YEARS = 146097L
+    private const val DAYS_IN_4_YEARS = 1461L
+
+    /**
+     * @param year the astronomical year
+     * @param month the month, from 1 to 12
+     * @param dayOfMonth the day in the month, from 1 to 31
+     *
+     * @return the number of days since 1970-01-01 of the given date
+     */
+    fun of(year: Int, month: Int, dayOfMonth: Int): Long {
+        val gregorian = ofGregorian(year, month, dayOfMonth)
+        return if (gregorian >= GREGORIAN_CUTOVER) gregorian else ofJulian(year, month, dayOfMonth)
+    }
+
+    /**
+     * @return the date for the given epoch day, packed into an int. Use [year], [month], and [dayOfMonth] to read it.
+     */
+    fun toDate(epochDay: Long): Int =
+            if (epochDay >= GREGORIAN_CUTOVER) toGregorianDate(epochDay) else toJulianDate(epochDay)
+
+    /**
+     * @return the astronomical year of the given epoch day
+     */
+    fun yearOf(epochDay: Long): Int = year(toDate(epochDay))
+
+    fun year(date: Int): Int = date shr 9
+
+    fun month(date: Int): Int = (date shr 5) and 0xf
+
+    fun dayOfMonth(date: Int): Int = date and 0x1f
+
+    fun floorDiv(x: Long, y: Long): Long {
+        val q = x / y
+        return if (x % y != 0L && (x xor y) < 0) q - 1 else q
+    }
+
+    fun floorMod(x: Long, y: Long): Long = x - floorDiv(x, y) * y
+
+    private fun ofGregorian(year: Int, month: Int, dayOfMonth: Int): Long {
+        // The algorithm considers that years start in March, so that the leap day is the last day of the year.
+        val y = (if (month <= 2) year - 1 else year).toLong()
+        val era = floorDiv(y, 400)
+        val yearOfEra = y - era * 400
+        val dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfMarchYear(month, dayOfMonth)
+        return era * DAYS_IN_400_YEARS + dayOfEra - GREGORIAN_DAYS_0000_TO_1970
+    }
+
+    private fun ofJulian(year: Int, month: Int, dayOfMonth: Int): Long {
+        val y = (if (month <= 2) year - 1 else year).toLong()
+        val era = floorDiv(y, 4)
+        val yearOfEra = y - era * 4
+        val dayOfEra = yearOfEra * 365 + dayOfMarchYear(month, dayOfMonth)
+        return era * DAYS_IN_4_YEARS + dayOfEra - JULIAN_DAYS_0000_TO_1970
+    }
+
+    private fun toGregorianDate(epochDay: Long): Int {
+        val z = epochDay + GREGORIAN_DAYS_0000_TO_1970
+        val era = floorDiv(z, DAYS_IN_400_YEARS)
+        val dayOfEra = z - era * DAYS_IN_400_YEARS
+        val yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365
+        val dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100)
+        return toDate(era * 400 + yearOfEra, dayOfYear.toInt())
+    }
+
+    private fun toJulianDate(epochDay: Long): Int {
+        val z = epochDay + JULIAN_DAYS_0000_TO_1970
+        val era = floorDiv(z, DAYS_IN_4_YEARS)
+        val dayOfEra = z - era * DAYS_IN_4_YEARS
+        val yearOfEra = (dayOfEra - dayOfEra / 1460) / 365
+        val dayOfYear = dayOfEra - 365 * yearOfEra
+        return toDate(era * 4 + yearOfEra, dayOfYear.toInt())
+    }
+
+    /**
+     * @param dayOfMarchYear the number of days since the 1st of March, starting from 0.
+     */
+    private fun toDate(marchYear: Long, dayOfMarchYear: Int): Int {
+        val m = (5 * dayOfMarchYear + 2) / 153
+        val dayOfMonth = dayOfMarchYear - (153 * m + 2) / 5 + 1
+        val month = if (m < 10) m + 3 else m - 9
+        val year = if (month <= 2) marchYear + 1 else marchYear
+        return (year.toInt() shl 9) or (month shl 5) or dayOfMonth
+    }
+
+    /**
+     * @return the number of days between the 1st of March and the given month and day, from 0 to 365.
+     */
+    private fun dayOfMarchYear(month: Int, dayOfMonth: Int): Int =
+            (153 * (if (month > 2) month - 3 else month + 9) + 2) / 5 + dayOfMonth - 1
+}
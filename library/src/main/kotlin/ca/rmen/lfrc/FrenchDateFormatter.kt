@@ -0,0 +1,422 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import ca.rmen.lfrc.i18n.FrenchRevolutionaryCalendarLabels
+import ca.rmen.lfrc.i18n.LabelTrie
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.text.ParseException
+import java.util.Locale
+
+/**
+ * Formats French dates with a pattern made of literal text and these tags:
+ *
+ * - `%y`: year: 219
+ * - `%MMMM`: month name: Thermidor
+ * - `%MM`: 2-digit month: 09
+ * - `%M`: month: 9
+ * - `%dd`: 2-digit day: 02
+ * - `%d`: day: 2
+ * - `%H`: hour: 5
+ * - `%mm`: 2-digit minute: 08
+ * - `%ss`: 2-digit second: 03
+ * - `%E`: weekday name: Duodi
+ * - `%W`: week in month: 2
+ * - `%T`: type of object of the day: plant
+ * - `%DDDD`: object of the day: Cherry
+ *
+ * The longest tag is used where several match: `%MMM` is a 2-digit month followed by "M".
+ * A `%` which doesn't start a tag is literal text.
+ *
+ * The same pattern parses dates back, with [parse]. Names are matched ignoring case and accents, with a trie of
+ * the labels of the locale: "vendemiaire" is read as Vendémiaire, and "boeuf" as Bœuf.
+ *
+ * The pattern is parsed once, when the formatter is created. Formatters are immutable and thread-safe.
+ *
+ * @author calvarez
+ */
+class FrenchDateFormatter private constructor(
+        /**
+         * The pattern of this formatter
+         */
+        val pattern: String,
+        // For each part of the pattern, the field it displays, or LITERAL for the literal text at the same index.
+        private val fields: IntArray,
+        private val literals: Array<String?>) {
+
+    companion object {
+
+        // The value of a field which hasn't been parsed.
+        private const val UNSET = -1
+
+        private const val LITERAL = 0
+        private const val YEAR = 1
+        private const val MONTH_NAME = 2
+        private const val MONTH_2_DIGITS = 3
+        private const val MONTH = 4
+        private const val DAY_2_DIGITS = 5
+        private const val DAY = 6
+        private const val HOUR = 7
+        private const val MINUTE_2_DIGITS = 8
+        private const val SECOND_2_DIGITS = 9
+        private const val WEEKDAY_NAME = 10
+        private const val WEEK_IN_MONTH = 11
+        private const val OBJECT_TYPE = 12
+        private const val OBJECT_OF_THE_DAY = 13
+
+        // The tags, without the %, longest first, so that the first one which matches is the longest one.
+        private val TAGS = arrayOf("MMMM", "DDDD", "MM", "dd", "mm", "ss", "y", "M", "d", "H", "E", "W", "T")
+        private val TAG_FIELDS = intArrayOf(MONTH_NAME, OBJECT_OF_THE_DAY, MONTH_2_DIGITS, DAY_2_DIGITS, MINUTE_2_DIGITS,
+                SECOND_2_DIGITS, YEAR, MONTH, DAY, HOUR, WEEKDAY_NAME, WEEK_IN_MONTH, OBJECT_TYPE)
+
+        /**
+         * @return a formatter for the given pattern
+         */
+        @JvmStatic
+        fun ofPattern(pattern: String): FrenchDateFormatter {
+            val fields = ArrayList<Int>()
+            val literals = ArrayList<String?>()
+            val literal = StringBuilder()
+            var i = 0
+            while (i < pattern.length) {
+                val tag = if (pattern[i] == '%') findTag(pattern, i + 1) else -1
+                if (tag < 0) {
+                    literal.append(pattern[i++])
+                    continue
+                }
+                if (literal.isNotEmpty()) {
+                    fields.add(LITERAL)
+                    literals.add(literal.toString())
+                    literal.setLength(0)
+                }
+                fields.add(TAG_FIELDS[tag])
+                literals.add(null)
+                i += 1 + TAGS[tag].length
+            }
+            if (literal.isNotEmpty()) {
+                fields.add(LITERAL)
+                literals.add(literal.toString())
+            }
+            return FrenchDateFormatter(pattern, fields.toIntArray(), literals.toTypedArray())
+        }
+
+        /**
+         * @return the index in [TAGS] of the longest tag at the given position of the pattern, or -1
+         */
+        private fun findTag(pattern: String, start: Int): Int {
+            for (tag in TAGS.indices) {
+                if (pattern.startsWith(TAGS[tag], start)) return tag
+            }
+            return -1
+        }
+    }
+
+    /**
+     * @return the given date, formatted with the pattern of this formatter
+     */
+    fun format(date: FrenchRevolutionaryCalendarDate): String {
+        val result = StringBuilder(pattern.length + 32)
+        formatTo(date, result)
+        return result.toString()
+    }
+
+    /**
+     * @return the given packed date, formatted with the pattern of this formatter, and with labels in the given locale
+     */
+    fun format(packedDate: Long, locale: Locale): String {
+        val result = StringBuilder(pattern.length + 32)
+        formatTo(packedDate, locale, result)
+        return result.toString()
+    }
+
+    /**
+     * Appends the given date, formatted with the pattern of this formatter, to the given appendable.
+     *
+     * @throws UncheckedIOException if the appendable throws an IOException
+     */
+    fun formatTo(date: FrenchRevolutionaryCalendarDate, appendable: Appendable) {
+        formatTo(date.locale, date.year, date.month, date.dayOfMonth, date.hour, date.minute, date.second, appendable)
+    }
+
+    /**
+     * Appends the given packed date, formatted with the pattern of this formatter, with labels in the given locale,
+     * to the given appendable. No objects are created, unless the appendable creates some.
+     *
+     * @throws UncheckedIOException if the appendable throws an IOException
+     */
+    fun formatTo(packedDate: Long, locale: Locale, appendable: Appendable) {
+        formatTo(locale,
+                FrenchRevolutionaryCalendarPackedDate.getYear(packedDate),
+                FrenchRevolutionaryCalendarPackedDate.getMonth(packedDate),
+                FrenchRevolutionaryCalendarPackedDate.getDayOfMonth(packedDate),
+                FrenchRevolutionaryCalendarPackedDate.getHour(packedDate),
+                FrenchRevolutionaryCalendarPackedDate.getMinute(packedDate),
+                FrenchRevolutionaryCalendarPackedDate.getSecond(packedDate),
+                appendable)
+    }
+
+    private fun formatTo(locale: Locale, year: Int, month: Int, dayOfMonth: Int, hour: Int, minute: Int, second: Int,
+                         appendable: Appendable) {
+        val labels = FrenchRevolutionaryCalendarLabels.getInstance(locale)
+        try {
+            for (i in fields.indices) {
+                when (fields[i]) {
+                    LITERAL -> appendable.append(literals[i])
+                    YEAR -> appendInt(appendable, year)
+                    MONTH_NAME -> appendable.append(labels.getMonthName(month))
+                    MONTH_2_DIGITS -> append2Digits(appendable, month)
+                    MONTH -> appendInt(appendable, month)
+                    DAY_2_DIGITS -> append2Digits(appendable, dayOfMonth)
+                    DAY -> appendInt(appendable, dayOfMonth)
+                    HOUR -> appendInt(appendable, hour)
+                    MINUTE_2_DIGITS -> append2Digits(appendable, minute)
+                    SECOND_2_DIGITS -> append2Digits(appendable, second)
+                    WEEKDAY_NAME -> appendable.append(labels.getWeekdayName((dayOfMonth - 1) % 10 + 1))
+                    WEEK_IN_MONTH -> appendInt(appendable, (dayOfMonth - 1) / 10 + 1)
+                    OBJECT_TYPE -> appendable.append(labels.getDailyObjectTypeName(FrenchRevolutionaryCalendarDate.getObjectType(month, dayOfMonth)))
+                    OBJECT_OF_THE_DAY -> appendable.append(labels.getDayOfYear(month, dayOfMonth))
+                }
+            }
+        } catch (e: IOException) {
+            throw UncheckedIOException(e)
+        }
+    }
+
+    private fun append2Digits(appendable: Appendable, value: Int) {
+        if (value in 0..9) appendable.append('0')
+        appendInt(appendable, value)
+    }
+
+    private fun appendInt(appendable: Appendable, value: Int) {
+        if (appendable is StringBuilder) {
+            appendable.append(value)
+            return
+        }
+        if (value < 0) {
+            // The digits of Int.MIN_VALUE don't fit in a positive int.
+            if (value == Int.MIN_VALUE) {
+                appendable.append(Int.MIN_VALUE.toString())
+                return
+            }
+            appendable.append('-')
+        }
+        val positiveValue = Math.abs(value)
+        var divisor = 1
+        while (positiveValue / divisor >= 10) divisor *= 10
+        while (divisor > 0) {
+            appendable.append('0' + positiveValue / divisor % 10)
+            divisor /= 10
+        }
+    }
+
+    /**
+     * Parses a date formatted with the pattern of this formatter, with the labels of the given locale.
+     *
+     * @return the parsed date, with labels in the given locale
+     * @throws ParseException if the text doesn't match the pattern, or if it doesn't have a valid date.
+     */
+    @Throws(ParseException::class)
+    fun parse(text: CharSequence, locale: Locale): FrenchRevolutionaryCalendarDate =
+            FrenchRevolutionaryCalendarPackedDate.toDate(parsePackedDate(text, locale), locale)
+
+    /**
+     * Parses a date formatted with the pattern of this formatter, with the labels of the given locale.
+     * No objects are created, unless the text isn't valid.
+     *
+     * The pattern must have the year, and the month and day of the month: as numbers or names, or from the name of the
+     * object of the day, or the day of the month from the weekday and the week in the month.
+     * The weekday, week in the month, and type of object of the day, if they're in the pattern, must match the date.
+     * The hour, minute, and second are 0 if they're not in the pattern.
+     *
+     * @return the parsed date, packed with [FrenchRevolutionaryCalendarPackedDate]
+     * @throws ParseException if the text doesn't match the pattern, or if it doesn't have a valid date.
+     */
+    @Throws(ParseException::class)
+    fun parsePackedDate(text: CharSequence, locale: Locale): Long {
+        val labels = FrenchRevolutionaryCalendarLabels.getInstance(locale)
+        var year = 0
+        var hasYear = false
+        var month = UNSET
+        var dayOfMonth = UNSET
+        var hour = UNSET
+        var minute = UNSET
+        var second = UNSET
+        var weekday = UNSET
+        var weekInMonth = UNSET
+        var dayInYear = UNSET
+        var objectType = UNSET
+        var ambiguousNameStart = UNSET
+        var ambiguousNameEnd = UNSET
+        var position = 0
+        for (i in fields.indices) {
+            val field = fields[i]
+            if (field == LITERAL) {
+                position = parseLiteral(text, position, literals[i]!!)
+                continue
+            }
+            // The value in the upper 32 bits, and the position after it in the lower 32 bits.
+            val result = when (field) {
+                YEAR -> parseSignedNumber(text, position)
+                MONTH_2_DIGITS, DAY_2_DIGITS, MINUTE_2_DIGITS, SECOND_2_DIGITS -> parseNumber(text, position, 2, 2)
+                MONTH, DAY, HOUR, WEEK_IN_MONTH -> parseNumber(text, position, 1, 9)
+                MONTH_NAME -> labels.monthTrie.find(text, position)
+                WEEKDAY_NAME -> labels.weekdayTrie.find(text, position)
+                OBJECT_TYPE -> labels.dailyObjectTypeTrie.find(text, position)
+                else -> labels.dayOfYearTrie.find(text, position)
+            }
+            if (result == -1L) throw ParseException("Unparseable date: \"$text\"", position)
+            val value = (result shr 32).toInt()
+            if (value == LabelTrie.AMBIGUOUS) {
+                // Some objects of the day have the same name on different days: the month and day tell which one it is.
+                if (field != OBJECT_OF_THE_DAY) throw ParseException("Ambiguous name in \"$text\"", position)
+                ambiguousNameStart = position
+                ambiguousNameEnd = result.toInt()
+                position = ambiguousNameEnd
+                continue
+            }
+            // A field may be in the pattern more than once, but always with the same value.
+            if (field == YEAR) {
+                if (hasYear && year != value) throw ParseException("Conflicting values in \"$text\"", position)
+                year = value
+                hasYear = true
+            } else {
+                val previousValue = when (field) {
+                    MONTH_NAME, MONTH_2_DIGITS, MONTH -> month
+                    DAY_2_DIGITS, DAY -> dayOfMonth
+                    HOUR -> hour
+                    MINUTE_2_DIGITS -> minute
+                    SECOND_2_DIGITS -> second
+                    WEEKDAY_NAME -> weekday
+                    WEEK_IN_MONTH -> weekInMonth
+                    OBJECT_TYPE -> objectType
+                    else -> dayInYear
+                }
+                if (previousValue != UNSET && previousValue != value) throw ParseException("Conflicting values in \"$text\"", position)
+                when (field) {
+                    MONTH_NAME, MONTH_2_DIGITS, MONTH -> month = value
+                    DAY_2_DIGITS, DAY -> dayOfMonth = value
+                    HOUR -> hour = value
+                    MINUTE_2_DIGITS -> minute = value
+                    SECOND_2_DIGITS -> second = value
+                    WEEKDAY_NAME -> weekday = value
+                    WEEK_IN_MONTH -> weekInMonth = value
+                    OBJECT_TYPE -> objectType = value
+                    else -> dayInYear = value
+                }
+            }
+            position = result.toInt()
+        }
+        if (position != text.length) throw ParseException("Unparsed text in \"$text\"", position)
+
+        if (ambiguousNameStart != UNSET) {
+            dayInYear = findDayInYear(labels, text, ambiguousNameStart, ambiguousNameEnd, month, dayOfMonth, weekday, weekInMonth, objectType)
+        }
+        if (dayInYear != UNSET) {
+            val dayInYearMonth = (dayInYear - 1) / 30 + 1
+            val dayInYearDayOfMonth = (dayInYear - 1) % 30 + 1
+            if ((month != UNSET && month != dayInYearMonth) || (dayOfMonth != UNSET && dayOfMonth != dayInYearDayOfMonth)) {
+                throw ParseException("Conflicting values in \"$text\"", 0)
+            }
+            month = dayInYearMonth
+            dayOfMonth = dayInYearDayOfMonth
+        }
+        if (dayOfMonth == UNSET && weekday != UNSET && weekInMonth != UNSET) dayOfMonth = (weekInMonth - 1) * 10 + weekday
+        if (!hasYear || month == UNSET || dayOfMonth == UNSET) throw ParseException("Incomplete date: \"$text\"", 0)
+        if (month < 1 || month > 13 || dayOfMonth < 1 || dayOfMonth > (if (month == 13) 6 else 30)
+                || hour > 9 || minute > 99 || second > 99) {
+            throw ParseException("Invalid date: \"$text\"", 0)
+        }
+        if ((weekday != UNSET && weekday != (dayOfMonth - 1) % 10 + 1)
+                || (weekInMonth != UNSET && weekInMonth != (dayOfMonth - 1) / 10 + 1)
+                || (objectType != UNSET && objectType != FrenchRevolutionaryCalendarDate.getObjectType(month, dayOfMonth).ordinal)) {
+            throw ParseException("Conflicting values in \"$text\"", 0)
+        }
+        return FrenchRevolutionaryCalendarPackedDate.of(year, month, dayOfMonth, Math.max(hour, 0), Math.max(minute, 0), Math.max(second, 0))
+    }
+
+    /**
+     * @return the day in the year of the object of the day with the name at the given position of the text, which is
+     *         the name of several days, and the only one of them which matches the other fields of the date.
+     * @throws ParseException if none or several of these days match the other fields of the date.
+     */
+    private fun findDayInYear(labels: FrenchRevolutionaryCalendarLabels, text: CharSequence, start: Int, end: Int,
+                              month: Int, dayOfMonth: Int, weekday: Int, weekInMonth: Int, objectType: Int): Int {
+        var result = UNSET
+        for (dayInYear in 1..366) {
+            val dayInYearMonth = (dayInYear - 1) / 30 + 1
+            val dayInYearDayOfMonth = (dayInYear - 1) % 30 + 1
+            if ((month == UNSET || month == dayInYearMonth)
+                    && (dayOfMonth == UNSET || dayOfMonth == dayInYearDayOfMonth)
+                    && (weekday == UNSET || weekday == (dayInYearDayOfMonth - 1) % 10 + 1)
+                    && (weekInMonth == UNSET || weekInMonth == (dayInYearDayOfMonth - 1) / 10 + 1)
+                    && (objectType == UNSET || objectType == FrenchRevolutionaryCalendarDate.getObjectType(dayInYearMonth, dayInYearDayOfMonth).ordinal)
+                    && LabelTrie.equalsIgnoreCaseAndAccents(text, start, end, labels.getDayOfYear(dayInYearMonth, dayInYearDayOfMonth))) {
+                if (result != UNSET) throw ParseException("Ambiguous name in \"$text\"", start)
+                result = dayInYear
+            }
+        }
+        if (result == UNSET) throw ParseException("Conflicting values in \"$text\"", start)
+        return result
+    }
+
+    /**
+     * @return the position after the given literal text, which may differ from the text in case and accents
+     * @throws ParseException if the text doesn't have the literal text at this position
+     */
+    private fun parseLiteral(text: CharSequence, start: Int, literal: String): Int {
+        var position = start
+        for (c in literal) {
+            if (position >= text.length || LabelTrie.fold(text[position]) != LabelTrie.fold(c)) {
+                throw ParseException("Unparseable date: \"$text\"", position)
+            }
+            position++
+        }
+        return position
+    }
+
+    /**
+     * @return the number at the given position, which may start with a minus sign, in the upper 32 bits, and the
+     *         position after it in the lower 32 bits, or -1 if there's no number at this position.
+     */
+    private fun parseSignedNumber(text: CharSequence, start: Int): Long {
+        if (start >= text.length || text[start] != '-') return parseNumber(text, start, 1, 9)
+        val result = parseNumber(text, start + 1, 1, 9)
+        if (result == -1L) return -1L
+        return (-(result shr 32) shl 32) or (result and 0xffffffffL)
+    }
+
+    /**
+     * @return the number of minDigits to maxDigits digits at the given position in the upper 32 bits, and the
+     *         position after it in the lower 32 bits, or -1 if there's no number at this position.
+     */
+    private fun parseNumber(text: CharSequence, start: Int, minDigits: Int, maxDigits: Int): Long {
+        var value = 0L
+        var position = start
+        while (position < text.length && position - start < maxDigits && text[position] in '0'..'9') {
+            value = value * 10 + (text[position] - '0')
+            position++
+        }
+        if (position - start < minDigits) return -1L
+        return (value shl 32) or position.toLong()
+    }
+
+    override fun toString(): String = pattern
+}
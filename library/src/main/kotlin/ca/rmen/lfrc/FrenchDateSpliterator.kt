@@ -0,0 +1,96 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod
+import java.util.Spliterator
+import java.util.function.LongConsumer
+
+/**
+ * Produces the packed French dates, at midnight, of the days from startEpochDay (inclusive) to endEpochDay (exclusive).
+ *
+ * Only the first day of each French year is looked up: the following days are found by incrementing the day and
+ * the month of the previous day.
+ * The days are split in two halves of the same size, so parallel streams split them evenly.
+ *
+ * @author calvarez
+ */
+internal class FrenchDateSpliterator(
+        private val calculationMethod: CalculationMethod,
+        private var epochDay: Long,
+        private val endEpochDay: Long) : Spliterator.OfLong {
+
+    private var year = 0
+    private var month = 0
+    private var dayOfMonth = 0
+
+    // The epoch day of the beginning of the next French year. When we reach it, we look up the year again.
+    private var yearEnd = epochDay
+
+    override fun tryAdvance(action: LongConsumer): Boolean {
+        if (epochDay >= endEpochDay) return false
+        action.accept(nextPackedDate())
+        return true
+    }
+
+    override fun forEachRemaining(action: LongConsumer) {
+        while (epochDay < endEpochDay) action.accept(nextPackedDate())
+    }
+
+    override fun trySplit(): Spliterator.OfLong? {
+        val middle = epochDay + (endEpochDay - epochDay) / 2
+        if (middle <= epochDay) return null
+        val prefix = FrenchDateSpliterator(calculationMethod, epochDay, middle)
+        epochDay = middle
+        yearEnd = middle
+        return prefix
+    }
+
+    override fun estimateSize(): Long = endEpochDay - epochDay
+
+    override fun characteristics(): Int = Spliterator.ORDERED or Spliterator.DISTINCT or Spliterator.SORTED or
+            Spliterator.SIZED or Spliterator.SUBSIZED or Spliterator.NONNULL or Spliterator.IMMUTABLE
+
+    // Packed dates are sorted in their natural order.
+    override fun getComparator(): Comparator<in Long>? = null
+
+    private fun nextPackedDate(): Long {
+        if (epochDay == yearEnd) loadYear()
+        val result = FrenchRevolutionaryCalendarPackedDate.of(year, month, dayOfMonth, 0, 0, 0)
+        epochDay++
+        if (++dayOfMonth > 30) {
+            dayOfMonth = 1
+            month++
+        }
+        return result
+    }
+
+    private fun loadYear() {
+        val yearAndDay = FrenchYears.getYearAndDay(calculationMethod, epochDay)
+        if (yearAndDay == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: epoch day $epochDay")
+        val dayInYear = FrenchYears.dayInYear(yearAndDay)
+        year = FrenchYears.year(yearAndDay)
+        month = dayInYear / 30 + 1
+        dayOfMonth = dayInYear % 30 + 1
+        val nextFirstDayOfYear = FrenchYears.getFirstDayOfYear(calculationMethod, year + 1)
+        // If we don't know when the next year begins, we look up each day.
+        yearEnd = if (nextFirstDayOfYear == FrenchYears.NOT_SUPPORTED) epochDay + 1 else nextFirstDayOfYear
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import java.text.ParseException
+import java.util.Locale
+
+/**
+ * The canonical text of a French date: a numeric form which doesn't depend on the locale, like `0233-01-27T5:12:34`,
+ * for the 27th of Vendémiaire 233, at 5:12:34.
+ *
+ * The year has at least four digits, and a minus sign if it is negative. The month, the day of the month, the minute
+ * and the second have two digits, and the hour has one digit. Each date has only one text, so the text can be used
+ * as a key, and texts of years from 0 to 9999 sort in chronological order.
+ *
+ * The dates are written into and read from buffers directly, without creating intermediate strings.
+ *
+ * @author calvarez
+ */
+object FrenchDateText {
+
+    /**
+     * The maximum length of the text of a date: a negative year with ten digits, and the fourteen characters of the
+     * rest of the date.
+     */
+    const val MAX_LENGTH = 25
+
+    private const val YEAR_DIGITS = 4
+    private const val MAX_YEAR_DIGITS = 10
+
+    /**
+     * @return the canonical text of the given date
+     */
+    @JvmStatic
+    fun toText(date: FrenchRevolutionaryCalendarDate): String = toText(FrenchRevolutionaryCalendarPackedDate.of(date))
+
+    /**
+     * @return the canonical text of the given packed date
+     */
+    @JvmStatic
+    fun toText(packedDate: Long): String = appendText(packedDate, StringBuilder(MAX_LENGTH)).toString()
+
+    /**
+     * Appends the canonical text of the given packed date to the given buffer.
+     *
+     * @return the buffer
+     */
+    @JvmStatic
+    fun appendText(packedDate: Long, output: StringBuilder): StringBuilder {
+        write(packedDate) { output.append(it) }
+        return output
+    }
+
+    /**
+     * Writes the canonical text of the given packed date, in ASCII, into the given buffer.
+     *
+     * @param offset the position in the buffer of the first character of the text. There must be room for up to
+     *        [MAX_LENGTH] bytes after it.
+     * @return the position in the buffer after the last character of the text
+     */
+    @JvmStatic
+    fun writeText(packedDate: Long, output: ByteArray, offset: Int): Int {
+        var position = offset
+        write(packedDate) { output[position++] = it.toByte() }
+        return position
+    }
+
+    private inline fun write(packedDate: Long, put: (Char) -> Unit) {
+        var year = FrenchRevolutionaryCalendarPackedDate.getYear(packedDate).toLong()
+        if (year < 0) {
+            put('-')
+            year = -year
+        }
+        var divisor = 1000L
+        while (divisor * 10 <= year) divisor *= 10
+        while (divisor > 0) {
+            put('0' + (year / divisor % 10).toInt())
+            divisor /= 10
+        }
+        put('-')
+        putTwoDigits(FrenchRevolutionaryCalendarPackedDate.getMonth(packedDate), put)
+        put('-')
+        putTwoDigits(FrenchRevolutionaryCalendarPackedDate.getDayOfMonth(packedDate), put)
+        put('T')
+        put('0' + FrenchRevolutionaryCalendarPackedDate.getHour(packedDate))
+        put(':')
+        putTwoDigits(FrenchRevolutionaryCalendarPackedDate.getMinute(packedDate), put)
+        put(':')
+        putTwoDigits(FrenchRevolutionaryCalendarPackedDate.getSecond(packedDate), put)
+    }
+
+    private inline fun putTwoDigits(value: Int, put: (Char) -> Unit) {
+        put('0' + value / 10)
+        put('0' + value % 10)
+    }
+
+    /**
+     * @return the date with the given canonical text, with labels in the given locale
+     * @throws ParseException if the text isn't the canonical text of a date
+     */
+    @JvmStatic
+    @Throws(ParseException::class)
+    fun parse(text: CharSequence, locale: Locale): FrenchRevolutionaryCalendarDate =
+            FrenchRevolutionaryCalendarPackedDate.toDate(parsePackedDate(text), locale)
+
+    /**
+     * @return the packed date with the given canonical text
+     * @throws ParseException if the text isn't the canonical text of a date
+     */
+    @JvmStatic
+    @Throws(ParseException::class)
+    fun parsePackedDate(text: CharSequence): Long = parsePackedDate(text, 0, text.length)
+
+    /**
+     * @param start the position of the first character of the text
+     * @param end the position after the last character of the text
+     * @return the packed date with the canonical text between the given positions
+     * @throws ParseException if the text isn't the canonical text of a date. The error offset is relative to the
+     *         beginning of the whole text.
+     */
+    @JvmStatic
+    @Throws(ParseException::class)
+    fun parsePackedDate(text: CharSequence, start: Int, end: Int): Long =
+            parse(start, end, { text.subSequence(start, end).toString() }) { text[it] }
+
+    /**
+     * @param offset the position of the first byte of the text, in ASCII
+     * @param length the number of bytes of the text
+     * @return the packed date with the canonical text in the given bytes
+     * @throws ParseException if the text isn't the canonical text of a date. The error offset is relative to the
+     *         beginning of the buffer.
+     */
+    @JvmStatic
+    @Throws(ParseException::class)
+    fun parsePackedDate(input: ByteArray, offset: Int, length: Int): Long =
+            parse(offset, offset + length, { String(input, offset, length, Charsets.US_ASCII) }) { input[it].toChar() }
+
+    /**
+     * @param errorText the text to put in the message of an error. It's only created if the text is invalid.
+     */
+    private inline fun parse(start: Int, end: Int, errorText: () -> String, charAt: (Int) -> Char): Long {
+        var position = start
+        val negative = position < end && charAt(position) == '-'
+        if (negative) position++
+        val yearStart = position
+        // Ten digits may not fit in an int.
+        var year = 0L
+        while (position < end && charAt(position) in '0'..'9' && position - yearStart < MAX_YEAR_DIGITS) {
+            year = year * 10 + (charAt(position) - '0')
+            position++
+        }
+        val yearDigits = position - yearStart
+        if (negative) year = -year
+        // Only the shortest text of the year is accepted, so that each date has only one text.
+        if (yearDigits < YEAR_DIGITS || (yearDigits > YEAR_DIGITS && charAt(yearStart) == '0') || (negative && year == 0L)
+                || year < Int.MIN_VALUE || year > Int.MAX_VALUE) {
+            throw ParseException("Invalid year in \"${errorText()}\"", yearStart)
+        }
+
+        // The rest of the date has a fixed length: "-MM-ddTH:mm:ss"
+        if (end - position != 14) throw ParseException("Invalid date \"${errorText()}\"", position)
+        if (charAt(position) != '-' || charAt(position + 3) != '-' || charAt(position + 6) != 'T'
+                || charAt(position + 8) != ':' || charAt(position + 11) != ':') {
+            throw ParseException("Invalid date \"${errorText()}\"", position)
+        }
+        val month = parseTwoDigits(position + 1, errorText, charAt)
+        val dayOfMonth = parseTwoDigits(position + 4, errorText, charAt)
+        val hour = charAt(position + 7) - '0'
+        if (hour !in 0..9) throw ParseException("Invalid digit in \"${errorText()}\"", position + 7)
+        val minute = parseTwoDigits(position + 9, errorText, charAt)
+        val second = parseTwoDigits(position + 12, errorText, charAt)
+        if (month !in 1..13) throw ParseException("Invalid month in \"${errorText()}\"", position + 1)
+        if (dayOfMonth !in 1..(if (month == 13) 6 else 30)) {
+            throw ParseException("Invalid day of month in \"${errorText()}\"", position + 4)
+        }
+        return FrenchRevolutionaryCalendarPackedDate.of(year.toInt(), month, dayOfMonth, hour, minute, second)
+    }
+
+    private inline fun parseTwoDigits(position: Int, errorText: () -> String, charAt: (Int) -> Char): Int {
+        val tens = charAt(position) - '0'
+        val units = charAt(position + 1) - '0'
+        if (tens !in 0..9 || units !in 0..9) throw ParseException("Invalid digit in \"${errorText()}\"", position)
+        return tens * 10 + units
+    }
+}
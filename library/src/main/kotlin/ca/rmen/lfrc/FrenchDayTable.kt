@@ -0,0 +1,69 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod
+import java.nio.IntBuffer
+import java.util.function.LongConsumer
+
+/**
+ * The French dates of all the days from startEpochDay (inclusive) to startEpochDay + the size of the buffer
+ * (exclusive), computed once, so that the French date of a day in this range is read from a buffer.
+ *
+ * The buffer may be an array in the heap, or a file mapped in memory by [FrenchDayTableFile].
+ * Each date takes 4 bytes: about 1.5 KB per year.
+ *
+ * @author calvarez
+ */
+internal class FrenchDayTable(private val startEpochDay: Long, private val dates: IntBuffer) {
+
+    companion object {
+
+        /**
+         * @return a table in the heap of the dates of the days from startEpochDay (inclusive) to endEpochDay (exclusive).
+         * @throws IllegalArgumentException if a day isn't supported.
+         */
+        fun create(calculationMethod: CalculationMethod, startEpochDay: Long, endEpochDay: Long): FrenchDayTable {
+            val dates = IntArray(Math.toIntExact(endEpochDay - startEpochDay))
+            var index = 0
+            FrenchDateSpliterator(calculationMethod, startEpochDay, endEpochDay).forEachRemaining(LongConsumer {
+                dates[index++] = toTableValue(it)
+            })
+            return FrenchDayTable(startEpochDay, IntBuffer.wrap(dates))
+        }
+
+        /**
+         * @return the value stored in a table for the given packed date at midnight: the date without the bits of the
+         *         time, which are all zero.
+         */
+        fun toTableValue(packedDate: Long): Int = (packedDate shr FrenchRevolutionaryCalendarPackedDate.DAY_OF_MONTH_SHIFT).toInt()
+    }
+
+    /**
+     * @return the packed French date, at midnight, of the given day, or [FrenchYears.NOT_SUPPORTED] if the day
+     *         isn't in the table.
+     */
+    fun getPackedDate(epochDay: Long): Long {
+        val index = epochDay - startEpochDay
+        if (index < 0 || index >= dates.limit()) return FrenchYears.NOT_SUPPORTED
+        // The absolute get doesn't change the position of the buffer, so all the threads can read the same buffer.
+        return dates.get(index.toInt()).toLong() shl FrenchRevolutionaryCalendarPackedDate.DAY_OF_MONTH_SHIFT
+    }
+}
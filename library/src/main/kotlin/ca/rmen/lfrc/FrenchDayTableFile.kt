@@ -0,0 +1,157 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod
+import java.io.File
+import java.io.IOException
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import java.time.LocalDate
+import java.util.function.LongConsumer
+
+/**
+ * Writes and reads files with the French dates of a range of days, for all the calculation methods.
+ *
+ * A calendar created with [FrenchRevolutionaryCalendar.withDayTable] reads the dates directly from the file, mapped
+ * in memory. All the processes which use the same file share the same copy of it in memory, and don't compute the
+ * dates again.
+ *
+ * The file has a header of 32 bytes, followed by the tables of each calculation method, in the order of the
+ * [CalculationMethod] values. Each table has 4 bytes per day. All the numbers are big-endian.
+ * ```
+ * int  magic number: "LFRC"
+ * int  version of the file format
+ * long epoch day of the first day
+ * int  number of days
+ * int  number of calculation methods
+ * long fingerprint of the rules of the calculation methods
+ * ```
+ * A file is only read if its fingerprint is the one of this version of the library, so the files written with other
+ * rules are rejected, without reading their tables.
+ *
+ * @author calvarez
+ */
+object FrenchDayTableFile {
+
+    /**
+     * The version of the format of the files. Files with another version can't be read.
+     */
+    const val VERSION = 1
+
+    /**
+     * The version of the rules of the calculation methods. Increment it whenever the dates computed by a calculation
+     * method change, so the files written with the older rules are rejected.
+     */
+    private const val RULES_VERSION = 1
+
+    // "LFRC"
+    private const val MAGIC = 0x4c465243
+    private const val HEADER_SIZE = 32
+
+    /**
+     * The version of the rules, followed by the CRC-32 of the equinox dates.
+     */
+    private val RULES_FINGERPRINT = RULES_VERSION.toLong() shl 32 or EquinoxDates.getChecksum()
+
+    /**
+     * Writes a file with the French dates of the days of the given range.
+     * The file is written to a new temporary file first, and then renamed, so the processes which are reading an
+     * older file are not disturbed, and processes which are writing the same file at the same time don't write
+     * into each other's temporary file.
+     *
+     * @param file the file to write
+     * @param startInclusive the first Gregorian date of the range
+     * @param endExclusive the Gregorian date after the last date of the range
+     * @throws IllegalArgumentException if a date isn't supported by a calculation method, or if the range is too long.
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    fun write(file: File, startInclusive: LocalDate, endExclusive: LocalDate) {
+        val startEpochDay = startInclusive.toEpochDay()
+        val endEpochDay = endExclusive.toEpochDay()
+        val methods = CalculationMethod.values()
+        val dayCount = endEpochDay - startEpochDay
+        if (dayCount < 0 || HEADER_SIZE + dayCount * methods.size * 4 > Int.MAX_VALUE) {
+            throw IllegalArgumentException("Invalid range: $startInclusive to $endExclusive")
+        }
+        val buffer = ByteBuffer.allocate(HEADER_SIZE + dayCount.toInt() * methods.size * 4)
+        buffer.position(HEADER_SIZE)
+        for (method in methods) {
+            FrenchDateSpliterator(method, startEpochDay, endEpochDay).forEachRemaining(LongConsumer {
+                buffer.putInt(FrenchDayTable.toTableValue(it))
+            })
+        }
+        buffer.putInt(0, MAGIC)
+        buffer.putInt(4, VERSION)
+        buffer.putLong(8, startEpochDay)
+        buffer.putInt(16, dayCount.toInt())
+        buffer.putInt(20, methods.size)
+        buffer.putLong(24, RULES_FINGERPRINT)
+        buffer.rewind()
+
+        // The temporary file is in the same directory as the file, so it can be renamed atomically.
+        val tmpFile = File.createTempFile(".${file.name}.", ".tmp", file.absoluteFile.parentFile)
+        try {
+            FileChannel.open(tmpFile.toPath(), StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE).use {
+                while (buffer.hasRemaining()) it.write(buffer)
+            }
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        } finally {
+            tmpFile.delete()
+        }
+    }
+
+    /**
+     * Maps the table of the given calculation method of the given file in memory.
+     *
+     * @throws IOException if the file can't be read, if it isn't a day table file, if it was written with another
+     *         version of the file format, or if it was written with other rules than the ones of this version of the
+     *         library.
+     */
+    @Throws(IOException::class)
+    internal fun map(file: File, calculationMethod: CalculationMethod): FrenchDayTable {
+        // The mapping stays valid after the channel is closed.
+        val buffer = FileChannel.open(file.toPath(), StandardOpenOption.READ).use {
+            if (it.size() < HEADER_SIZE || it.size() > Int.MAX_VALUE) throw IOException("Not a day table file: $file")
+            it.map(FileChannel.MapMode.READ_ONLY, 0, it.size())
+        }
+        if (buffer.getInt(0) != MAGIC) throw IOException("Not a day table file: $file")
+        val version = buffer.getInt(4)
+        if (version != VERSION) throw IOException("Unsupported version $version of the day table file $file")
+        val startEpochDay = buffer.getLong(8)
+        val dayCount = buffer.getInt(16)
+        val methodCount = buffer.getInt(20)
+        if (methodCount != CalculationMethod.values().size || dayCount < 0
+                || buffer.capacity().toLong() != HEADER_SIZE + dayCount.toLong() * methodCount * 4) {
+            throw IOException("Corrupt day table file: $file")
+        }
+        if (buffer.getLong(24) != RULES_FINGERPRINT) {
+            throw IOException("The day table file $file was written with other rules than the ones of this version of the library")
+        }
+
+        buffer.position(HEADER_SIZE + calculationMethod.ordinal * dayCount * 4)
+        buffer.limit(buffer.position() + dayCount * 4)
+        return FrenchDayTable(startEpochDay, buffer.slice().asIntBuffer())
+    }
+}
@@ -19,13 +19,23 @@
  */
 package ca.rmen.lfrc
 
-import java.text.ParseException
-import java.text.SimpleDateFormat
+import java.io.File
+import java.io.IOException
+import java.time.Instant
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.ZoneId
+import java.time.ZoneOffset
+import java.time.ZonedDateTime
+import java.time.zone.ZoneRules
 import java.util.Calendar
 import java.util.GregorianCalendar
 import java.util.Locale
 import java.util.TimeZone
-import kotlin.math.roundToInt
+import java.util.concurrent.ForkJoinPool
+import java.util.stream.LongStream
+import java.util.stream.Stream
+import java.util.stream.StreamSupport
 
 /**
 
@@ -34,9 +44,12 @@ import kotlin.math.roundToInt
  * @param calculationMethod the method to calculate the first day of the French year, in the Gregorian calendar.
  * @author calvarez
  */
-class FrenchRevolutionaryCalendar(
-        private val locale: Locale,
-        private val calculationMethod: FrenchRevolutionaryCalendar.CalculationMethod) {
+class FrenchRevolutionaryCalendar private constructor(
+        internal val locale: Locale,
+        private val calculationMethod: FrenchRevolutionaryCalendar.CalculationMethod,
+        private val dayTable: FrenchDayTable?) {
+
+    constructor(locale: Locale, calculationMethod: CalculationMethod) : this(locale, calculationMethod, null)
 
     enum class CalculationMethod { // NO_UCD (use default)
         EQUINOX, ROMME, VON_MADLER
@@ -46,377 +59,712 @@ class FrenchRevolutionaryCalendar(
         PLANT, ANIMAL, TOOL, MINERAL, CONCEPT
     }
 
-    private val utcTimeZone = TimeZone.getTimeZone("UTC")
-    private val frenchEraYearZero = Calendar.getInstance()
-    private val frenchEraYearOne = Calendar.getInstance()
-    private var frenchEraEnd = Calendar.getInstance()
-
-    init {
-        // How will we calculate the Gregorian date of the beginning of each
-        // French year?
-
-        // Read in the dates of the beginning and end of the French calendar,
-        // for which equinoxes were used.
-        val sdf = SimpleDateFormat(DATE_FORMAT)
-        try {
-            frenchEraYearZero.time = sdf.parse(FRENCH_ERA_YEAR_ZERO)
-            frenchEraYearOne.time = sdf.parse(FRENCH_ERA_YEAR_ONE)
-            frenchEraEnd.time = sdf.parse(FRENCH_ERA_END)
-        } catch (e: ParseException) {
-            debug("Error reading French epoch " + FRENCH_ERA_YEAR_ONE, e)
+    /**
+     * Creates a calendar which converts the days in the given range with a table. The French dates of these days
+     * are computed once, so that converting a date in the range only takes an array read. Dates outside of the range
+     * are converted as usual.
+     *
+     * The table takes 4 bytes per day: about 750 KB from 1792 to 2300.
+     *
+     * @param startInclusive the first Gregorian date of the table
+     * @param endExclusive the Gregorian date after the last date of the table
+     *
+     * @return a calendar with the same locale and calculation method as this one, and the given table.
+     * @throws IllegalArgumentException if a date of the range isn't supported, or if the range has more than
+     *         [Integer.MAX_VALUE] days.
+     */
+    fun withDayTable(startInclusive: LocalDate, endExclusive: LocalDate): FrenchRevolutionaryCalendar {
+        val startEpochDay = startInclusive.toEpochDay()
+        val endEpochDay = endExclusive.toEpochDay()
+        if (endEpochDay < startEpochDay || endEpochDay - startEpochDay > Int.MAX_VALUE) {
+            throw IllegalArgumentException("Invalid range: $startInclusive to $endExclusive")
         }
+        return FrenchRevolutionaryCalendar(locale, calculationMethod, FrenchDayTable.create(calculationMethod, startEpochDay, endEpochDay))
     }
 
+    /**
+     * Creates a calendar which converts the days of the given table file, written by [FrenchDayTableFile.write].
+     * The file is mapped in memory: processes which use the same file share it, instead of each having a table
+     * in their heap.
+     *
+     * @return a calendar with the same locale and calculation method as this one, and the table of the file.
+     * @throws IOException if the file can't be read, or if it isn't a valid table file for this version of the library.
+     */
+    @Throws(IOException::class)
+    fun withDayTable(file: File): FrenchRevolutionaryCalendar =
+            FrenchRevolutionaryCalendar(locale, calculationMethod, FrenchDayTableFile.map(file, calculationMethod))
+
     /**
      * @param gregorianDate a date in the Gregorian calendar
      *
      * @return the French date corresponding to the Gregorian calendar date.
      */
     fun getDate(gregorianDate: GregorianCalendar): FrenchRevolutionaryCalendarDate {
+        // The date and time in the time zone of the given calendar, as a number of milliseconds since 1970-01-01 00:00:00.
+        // Reading the offset directly from the time zone avoids computing all the fields of the calendar.
+        val millis = gregorianDate.timeInMillis
+        val localMillis = millis + gregorianDate.timeZone.getOffset(millis)
+        val epochDay = EpochDays.floorDiv(localMillis, EpochDays.MILLIS_PER_DAY)
+        val secondOfDay = ((localMillis - epochDay * EpochDays.MILLIS_PER_DAY) / 1000).toInt()
+        return getDate(epochDay, secondOfDay) ?: throw IllegalArgumentException("Date not supported: $gregorianDate")
+    }
 
-        // Determine the method of calculating the first day of the French year.
+    /**
+     * @param instant an instant on the time-line
+     * @param zoneId the time zone in which to read the date and time of the given instant
+     *
+     * @return the French date corresponding to the date and time of the instant in the given time zone.
+     */
+    fun getDate(instant: Instant, zoneId: ZoneId): FrenchRevolutionaryCalendarDate {
+        val localSeconds = instant.epochSecond + zoneId.rules.getOffset(instant).totalSeconds
+        val epochDay = EpochDays.floorDiv(localSeconds, SECONDS_PER_DAY)
+        val secondOfDay = (localSeconds - epochDay * SECONDS_PER_DAY).toInt()
+        return getDate(epochDay, secondOfDay) ?: throw IllegalArgumentException("Date not supported: $instant")
+    }
 
-        // If we are using the equinox calculation method, or if we are within the dates the
-        // calendar was used (regardless of the selected calculation method), use the equinox
-        // calculation method.
-        val result = when {
-            calculationMethod == CalculationMethod.EQUINOX || gregorianDate.after(frenchEraYearOne) && gregorianDate.before(frenchEraEnd) -> getDateEquinox(gregorianDate)
-            calculationMethod == CalculationMethod.ROMME -> getDateRomme(gregorianDate)
-            calculationMethod == CalculationMethod.VON_MADLER -> getDateVonMadler(gregorianDate)
-            else ->
-                throw IllegalArgumentException("Can't convert date $gregorianDate using method $calculationMethod")
-        }
-        // Get the decimal time portion of the French date
-        val timeInDay = getFrenchTime(gregorianDate)
-        return FrenchRevolutionaryCalendarDate(locale, result.year, result.month, result.dayOfMonth, timeInDay[0], timeInDay[1], timeInDay[2])
+    /**
+     * @param gregorianDate a date in the Gregorian calendar
+     *
+     * @return the French date corresponding to the given date, at midnight.
+     */
+    fun getDate(gregorianDate: LocalDate): FrenchRevolutionaryCalendarDate =
+            getDate(gregorianDate.toEpochDay(), 0) ?: throw IllegalArgumentException("Date not supported: $gregorianDate")
+
+    /**
+     * @param gregorianDate a date and time in the Gregorian calendar
+     *
+     * @return the French date corresponding to the given date and time.
+     */
+    fun getDate(gregorianDate: LocalDateTime): FrenchRevolutionaryCalendarDate =
+            getDate(gregorianDate.toLocalDate().toEpochDay(), gregorianDate.toLocalTime().toSecondOfDay())
+                    ?: throw IllegalArgumentException("Date not supported: $gregorianDate")
+
+    /**
+     * @param gregorianDate a date and time in the Gregorian calendar
+     *
+     * @return the French date corresponding to the date and time of the given date, in its time zone.
+     */
+    fun getDate(gregorianDate: ZonedDateTime): FrenchRevolutionaryCalendarDate = getDate(gregorianDate.toLocalDateTime())
+
+    /**
+     * @param epochMillis the number of milliseconds since 1970-01-01 00:00:00 UTC
+     * @param timeZone the time zone in which to read the date and time of the given instant
+     *
+     * @return the French date and time corresponding to the given instant, packed into a long.
+     *         Read it with [FrenchRevolutionaryCalendarPackedDate].
+     *         No objects are created.
+     * @throws IllegalArgumentException if the date isn't supported.
+     */
+    fun getPackedDate(epochMillis: Long, timeZone: TimeZone): Long {
+        val localMillis = epochMillis + timeZone.getOffset(epochMillis)
+        val epochDay = EpochDays.floorDiv(localMillis, EpochDays.MILLIS_PER_DAY)
+        val secondOfDay = ((localMillis - epochDay * EpochDays.MILLIS_PER_DAY) / 1000).toInt()
+        val result = findPackedDate(epochDay, secondOfDay)
+        if (result == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $epochMillis")
+        return result
     }
 
     /**
-     * @param frenchDate a date in the French Revolutionary Calendar
+     * @param epochDay the Gregorian date, as a number of days since 1970-01-01, like LocalDate.toEpochDay()
+     * @param secondOfDay the time of the day, as a number of seconds since midnight, like LocalTime.toSecondOfDay()
      *
-     * @return the Gregorian calendar date, in the default time zone, corresponding to the given French Revolutionary Calendar date
+     * @return the French date and time corresponding to the given local date and time, packed into a long.
+     *         Read it with [FrenchRevolutionaryCalendarPackedDate].
+     *         No objects are created.
+     * @throws IllegalArgumentException if the date isn't supported, or if the second of the day isn't valid.
      */
-    fun getDate(frenchDate: FrenchRevolutionaryCalendarDate): GregorianCalendar? {
-        val result = when {
-            calculationMethod == CalculationMethod.EQUINOX || frenchDate.year in 1..19 -> getDateEquinox(frenchDate)
-            calculationMethod == CalculationMethod.ROMME -> getDateRomme(frenchDate)
-            calculationMethod == CalculationMethod.VON_MADLER -> getDateVonMadler(frenchDate)
-            else ->
-                throw IllegalArgumentException("Can't convert date $frenchDate using method $calculationMethod")
-        } ?: return null
-
-        val timeInDay = get24HourTime(frenchDate)
-        result[Calendar.HOUR_OF_DAY] = timeInDay[0]
-        result[Calendar.MINUTE] = timeInDay[1]
-        result[Calendar.SECOND] = timeInDay[2]
-        result[Calendar.MILLISECOND] = 0
+    fun getPackedDate(epochDay: Long, secondOfDay: Int): Long {
+        if (secondOfDay < 0 || secondOfDay >= SECONDS_PER_DAY) throw IllegalArgumentException("Invalid second of day: $secondOfDay")
+        val result = findPackedDate(epochDay, secondOfDay)
+        if (result == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $epochDay")
         return result
     }
 
     /**
-     * @param gregorianDate a date in the Gregorian calendar
+     * @param packedDate a French date and time, packed with [FrenchRevolutionaryCalendarPackedDate]
+     * @param timeZone the time zone of the French date
      *
-     * @return The French date corresponding to the Gregorian calendar date,
-     *         using the equinox method to determine the Gregorian date for the
-     *         first day of the French year.
+     * @return the number of milliseconds since 1970-01-01 00:00:00 UTC of the given French date and time.
+     *         No objects are created.
+     * @throws IllegalArgumentException if the date isn't supported.
      */
-    private fun getDateEquinox(gregorianDate: Calendar): FrenchRevolutionaryCalendarDate {
+    fun getEpochMillis(packedDate: Long, timeZone: TimeZone): Long {
+        val epochDay = getEpochDay(FrenchRevolutionaryCalendarPackedDate.getYear(packedDate),
+                FrenchRevolutionaryCalendarPackedDate.getDayInYear(packedDate))
+        if (epochDay == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $packedDate")
+        val localMillis = epochDay * EpochDays.MILLIS_PER_DAY + getMillisOfDay(packedDate)
+        // Like GregorianCalendar: a local time which is skipped when the clocks go forward is moved forward,
+        // and a local time which is repeated when the clocks go back is in standard time.
+        val offset = timeZone.getOffset(localMillis - timeZone.rawOffset)
+        val result = localMillis - offset
+        val resultOffset = timeZone.getOffset(result)
+        return if (resultOffset == offset) result else localMillis - resultOffset
+    }
 
-        val gyear = gregorianDate[Calendar.YEAR]
-        val gAutumnEquinox = getAutumnEquinox(gyear, gregorianDate.timeZone) ?: throw IllegalArgumentException("Date not supported: $gregorianDate")
+    /**
+     * @param startInclusive the first Gregorian date of the range
+     * @param endExclusive the Gregorian date after the last date of the range
+     *
+     * @return the French dates, at midnight, of each day of the range, in chronological order.
+     *         The dates are created as the stream is read.
+     * @throws IllegalArgumentException if the first or the last date of the range isn't supported.
+     */
+    fun getDates(startInclusive: LocalDate, endExclusive: LocalDate): Stream<FrenchRevolutionaryCalendarDate> =
+            toDates(getPackedDates(startInclusive, endExclusive))
 
-        // Determine the first day of the French year.
-        var g1stVendemiaire: Calendar?
-        g1stVendemiaire = gAutumnEquinox
-        // Case 1, date from January to September, use the equinox date from
-        // last year
-        if (gregorianDate < gAutumnEquinox) {
-            g1stVendemiaire = getAutumnEquinox(gyear - 1, gregorianDate.timeZone)
-            if (g1stVendemiaire == null) throw IllegalArgumentException("Date not supported: $gregorianDate")
-        }
-        // Case 2, date from September to December
-        else {
+    /**
+     * @param startInclusive the first Gregorian date of the range
+     * @param endExclusive the Gregorian date after the last date of the range
+     *
+     * @return the packed French dates, at midnight, of each day of the range, in chronological order.
+     *         Read them with [FrenchRevolutionaryCalendarPackedDate].
+     * @throws IllegalArgumentException if the first or the last date of the range isn't supported.
+     */
+    fun getPackedDates(startInclusive: LocalDate, endExclusive: LocalDate): LongStream =
+            getPackedDates(startInclusive.toEpochDay(), endExclusive.toEpochDay())
+
+    /**
+     * @param startInclusive the first French date of the range
+     * @param endExclusive the French date after the last date of the range
+     *
+     * @return the French dates, at midnight, of each day of the range, in chronological order.
+     *         The dates are created as the stream is read.
+     *         The times of the given dates are ignored.
+     * @throws IllegalArgumentException if the first or the last date of the range isn't supported.
+     */
+    fun getDates(startInclusive: FrenchRevolutionaryCalendarDate, endExclusive: FrenchRevolutionaryCalendarDate): Stream<FrenchRevolutionaryCalendarDate> =
+            toDates(getPackedDates(startInclusive, endExclusive))
 
+    /**
+     * @param startInclusive the first French date of the range
+     * @param endExclusive the French date after the last date of the range
+     *
+     * @return the packed French dates, at midnight, of each day of the range, in chronological order.
+     *         Read them with [FrenchRevolutionaryCalendarPackedDate].
+     *         The times of the given dates are ignored.
+     * @throws IllegalArgumentException if the first or the last date of the range isn't supported.
+     */
+    fun getPackedDates(startInclusive: FrenchRevolutionaryCalendarDate, endExclusive: FrenchRevolutionaryCalendarDate): LongStream {
+        val startEpochDay = getEpochDay(startInclusive.year, startInclusive.dayInYear)
+        if (startEpochDay == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $startInclusive")
+        val endEpochDay = getEpochDay(endExclusive.year, endExclusive.dayInYear)
+        if (endEpochDay == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $endExclusive")
+        return getPackedDates(startEpochDay, endEpochDay)
+    }
+
+    private fun getPackedDates(startEpochDay: Long, endEpochDay: Long): LongStream {
+        if (endEpochDay <= startEpochDay) {
+            return StreamSupport.longStream(FrenchDateSpliterator(calculationMethod, startEpochDay, startEpochDay), false)
+        }
+        // Fail now, rather than when the stream is read. The years in between are supported too.
+        if (FrenchYears.getYearAndDay(calculationMethod, startEpochDay) == FrenchYears.NOT_SUPPORTED) {
+            throw IllegalArgumentException("Date not supported: ${LocalDate.ofEpochDay(startEpochDay)}")
         }
-        // The year in the French date: Gregorian year at 1st vendemiaire -
-        // 1792. This is the number of years elapsed since the French calendar
-        // had been started.
-        val frenchYear = g1stVendemiaire[Calendar.YEAR] - frenchEraYearOne[Calendar.YEAR] + 1
-        // The DAY_OF_YEAR in the French year, from 0 to 365. This is the
-        // number of days elapsed between 1stVendemiaire of the French year and the
-        // given timestamp.
-
-        // Take into account DST offset difference between the equinox and today.
-        // Example: if today in Paris is November 29, our DST offset is 0, but the DST offset at the equinox in September was 1 hour.
-        // We consider the September equinox was to be at 23 sept 0:00, which is 22 sept 22:00 GMT.
-        // And now is 29 November 22:30 GMT.
-        // If we don't take into account the DST difference, we'll think that now is OVER 68 days since the equinox,
-        // but it's really just under 68 days.
-        val numberDaysInFrenchYear = ((gregorianDate.timeInMillis + gregorianDate[Calendar.DST_OFFSET]
-                - g1stVendemiaire.timeInMillis - g1stVendemiaire[Calendar.DST_OFFSET]) / NUM_MILLISECONDS_IN_DAY).toInt()
-        // Create and return the French calendar object.
-        return createFrenchDate(frenchYear, numberDaysInFrenchYear)
+        if (FrenchYears.getYearAndDay(calculationMethod, endEpochDay - 1) == FrenchYears.NOT_SUPPORTED) {
+            throw IllegalArgumentException("Date not supported: ${LocalDate.ofEpochDay(endEpochDay - 1)}")
+        }
+        return StreamSupport.longStream(FrenchDateSpliterator(calculationMethod, startEpochDay, endEpochDay), false)
     }
 
+    private fun toDates(packedDates: LongStream): Stream<FrenchRevolutionaryCalendarDate> =
+            packedDates.mapToObj { FrenchRevolutionaryCalendarPackedDate.toDate(it, locale) }
+
     /**
-     * @param frenchDate a date in the French Revolutionary Calendar
+     * Converts the dates of many instants at once. This is faster than converting them one by one,
+     * especially when consecutive instants are in the same French year.
      *
-     * @return The Gregorian calendar date corresponding to the French date,
-     *         using the equinox method to determine the Gregorian date for the
-     *         first day of the French year.
+     * @param epochMillis the instants to convert, in milliseconds since 1970-01-01 00:00:00 UTC
+     * @param zoneId the time zone in which to read the dates of the instants
+     * @param outYear receives the French year of each instant
+     * @param outMonth receives the French month of each instant, from 1 to 13
+     * @param outDay receives the day in the French month of each instant, from 1 to 30
+     * @throws IllegalArgumentException if an output array is shorter than the input array, or if a date isn't supported.
+     *         The dates before the unsupported date are converted.
      */
-    private fun getDateEquinox(frenchDate: FrenchRevolutionaryCalendarDate): GregorianCalendar? {
-        // Start out with a Gregorian calendar object in 1792 (year 1 of the French calendar)
-        val result = Calendar.getInstance(utcTimeZone) as GregorianCalendar
-        result.timeInMillis = frenchEraYearOne.inUtc().timeInMillis
+    fun convert(epochMillis: LongArray, zoneId: ZoneId, outYear: IntArray, outMonth: ByteArray, outDay: ByteArray) {
+        checkLength(epochMillis.size, outYear.size)
+        checkLength(epochMillis.size, outMonth.size)
+        checkLength(epochMillis.size, outDay.size)
+        convert(BulkConverter(calculationMethod, zoneId.rules), epochMillis, outYear, outMonth, outDay, 0, epochMillis.size)
+    }
 
-        // Move the calendar object forward by the number of years in our French date.
-        // Now our Gregorian calendar is in the right year.
-        result[Calendar.YEAR] += frenchDate.year - 1
+    /**
+     * Converts many French dates at once, to the instants of the beginning of these days.
+     *
+     * @param year the French years
+     * @param month the French months, from 1 to 13
+     * @param dayOfMonth the days in the French months, from 1 to 30
+     * @param zoneId the time zone of the French dates
+     * @param outEpochMillis receives the instant of midnight of each French date, in milliseconds since 1970-01-01 00:00:00 UTC.
+     *         If there's no midnight on that day, because the clocks went forward, the instant is the first moment of that day.
+     * @throws IllegalArgumentException if an array is shorter than the array of years, or if a date isn't supported.
+     *         The dates before the unsupported date are converted.
+     */
+    fun convert(year: IntArray, month: ByteArray, dayOfMonth: ByteArray, zoneId: ZoneId, outEpochMillis: LongArray) {
+        checkLength(year.size, month.size)
+        checkLength(year.size, dayOfMonth.size)
+        checkLength(year.size, outEpochMillis.size)
+        convert(BulkConverter(calculationMethod, zoneId.rules), year, month, dayOfMonth, outEpochMillis, 0, year.size)
+    }
 
-        // Set our Gregorian calendar to the date of the autumn equinox, in its given year
-        val equinoxDay = getAutumnEquinox(result[Calendar.YEAR], utcTimeZone) ?: return null
-        result.timeInMillis = equinoxDay.timeInMillis
+    /**
+     * Converts many instants at once, to packed French dates and times.
+     *
+     * @param epochMillis the instants to convert, in milliseconds since 1970-01-01 00:00:00 UTC
+     * @param zoneId the time zone in which to read the dates and times of the instants
+     * @param outPackedDates receives the French date and time of each instant. Read them with [FrenchRevolutionaryCalendarPackedDate].
+     * @throws IllegalArgumentException if the output array is shorter than the input array, or if a date isn't supported.
+     *         The dates before the unsupported date are converted.
+     */
+    fun getPackedDates(epochMillis: LongArray, zoneId: ZoneId, outPackedDates: LongArray) {
+        checkLength(epochMillis.size, outPackedDates.size)
+        getPackedDates(BulkConverter(calculationMethod, zoneId.rules), epochMillis, outPackedDates, 0, epochMillis.size)
+    }
 
-        // Determine how much time passed, in the French date, since the beginning of the year (which is the autumn equinox)
-        val millisSinceYearStart = (frenchDate.dayInYear - 1) * NUM_MILLISECONDS_IN_DAY
+    /**
+     * Converts many packed French dates and times at once, to instants.
+     *
+     * @param packedDates French dates and times, packed with [FrenchRevolutionaryCalendarPackedDate]
+     * @param zoneId the time zone of the French dates
+     * @param outEpochMillis receives the instant of each French date and time, in milliseconds since 1970-01-01 00:00:00 UTC.
+     *         Like with [getEpochMillis] for one date, a time which is skipped when the clocks go forward is moved
+     *         forward by the length of the transition, and a time which is repeated when the clocks go back is the
+     *         later of the two instants, in standard time.
+     * @throws IllegalArgumentException if the output array is shorter than the input array, or if a date isn't supported.
+     *         The dates before the unsupported date are converted.
+     */
+    fun getEpochMillis(packedDates: LongArray, zoneId: ZoneId, outEpochMillis: LongArray) {
+        checkLength(packedDates.size, outEpochMillis.size)
+        getEpochMillis(BulkConverter(calculationMethod, zoneId.rules), packedDates, outEpochMillis, 0, packedDates.size)
+    }
 
-        // Add this passed time to our Gregorian calendar result
-        result.timeInMillis += millisSinceYearStart
-        result.timeInMillis -= result[Calendar.DST_OFFSET] - equinoxDay[Calendar.DST_OFFSET]
-        return result.inDefaultTimeZone() as GregorianCalendar
+    /**
+     * Like [convert], but splits the instants into chunks which are converted in parallel on the given pool.
+     * The chunks of sorted instants begin with a new French year where possible.
+     *
+     * @param pool the pool which runs the conversions. By default, the common fork/join pool.
+     * @throws IllegalArgumentException if an output array is shorter than the input array, or if a date isn't supported.
+     *         Other dates may or may not be converted.
+     */
+    @JvmOverloads
+    fun parallelConvert(epochMillis: LongArray, zoneId: ZoneId, outYear: IntArray, outMonth: ByteArray, outDay: ByteArray,
+                        pool: ForkJoinPool = ForkJoinPool.commonPool()) {
+        checkLength(epochMillis.size, outYear.size)
+        checkLength(epochMillis.size, outMonth.size)
+        checkLength(epochMillis.size, outDay.size)
+        pool.invoke(EpochMillisToDatesTask(zoneId.rules, epochMillis, outYear, outMonth, outDay,
+                0, epochMillis.size, getParallelThreshold(epochMillis.size, pool)))
+    }
+
+    /**
+     * Like [convert], but splits the French dates into chunks which are converted in parallel on the given pool.
+     * The chunks of sorted dates begin with a new French year where possible.
+     *
+     * @param pool the pool which runs the conversions. By default, the common fork/join pool.
+     * @throws IllegalArgumentException if an array is shorter than the array of years, or if a date isn't supported.
+     *         Other dates may or may not be converted.
+     */
+    @JvmOverloads
+    fun parallelConvert(year: IntArray, month: ByteArray, dayOfMonth: ByteArray, zoneId: ZoneId, outEpochMillis: LongArray,
+                        pool: ForkJoinPool = ForkJoinPool.commonPool()) {
+        checkLength(year.size, month.size)
+        checkLength(year.size, dayOfMonth.size)
+        checkLength(year.size, outEpochMillis.size)
+        pool.invoke(DatesToEpochMillisTask(zoneId.rules, year, month, dayOfMonth, outEpochMillis,
+                0, year.size, getParallelThreshold(year.size, pool)))
     }
 
     /**
-     * @param gregorianDate
+     * Like [getPackedDates], but splits the instants into chunks which are converted in parallel on the given pool.
+     * The chunks of sorted instants begin with a new French year where possible.
      *
-     * @return The French date corresponding to the Gregorian calendar date,
-     *         using the Romme method to determine the Gregorian date for the
-     *         first day of the French year.
+     * @param pool the pool which runs the conversions. By default, the common fork/join pool.
+     * @throws IllegalArgumentException if the output array is shorter than the input array, or if a date isn't supported.
+     *         Other dates may or may not be converted.
+     */
+    @JvmOverloads
+    fun parallelGetPackedDates(epochMillis: LongArray, zoneId: ZoneId, outPackedDates: LongArray,
+                               pool: ForkJoinPool = ForkJoinPool.commonPool()) {
+        checkLength(epochMillis.size, outPackedDates.size)
+        pool.invoke(EpochMillisToPackedDatesTask(zoneId.rules, epochMillis, outPackedDates,
+                0, epochMillis.size, getParallelThreshold(epochMillis.size, pool)))
+    }
+
+    /**
+     * Like [getEpochMillis], but splits the packed dates into chunks which are converted in parallel on the given pool.
+     * The chunks of sorted packed dates begin with a new French year where possible.
+     *
+     * @param pool the pool which runs the conversions. By default, the common fork/join pool.
+     * @throws IllegalArgumentException if the output array is shorter than the input array, or if a date isn't supported.
+     *         Other dates may or may not be converted.
+     */
+    @JvmOverloads
+    fun parallelGetEpochMillis(packedDates: LongArray, zoneId: ZoneId, outEpochMillis: LongArray,
+                               pool: ForkJoinPool = ForkJoinPool.commonPool()) {
+        checkLength(packedDates.size, outEpochMillis.size)
+        pool.invoke(PackedDatesToEpochMillisTask(zoneId.rules, packedDates, outEpochMillis,
+                0, packedDates.size, getParallelThreshold(packedDates.size, pool)))
+    }
+
+    /**
+     * @return the number of elements below which a task converts them itself instead of splitting them:
+     *         enough chunks for each thread of the pool to steal a few, but not so small that splitting costs more than converting.
+     */
+    private fun getParallelThreshold(size: Int, pool: ForkJoinPool): Int =
+            Math.max(MIN_PARALLEL_CHUNK_SIZE, size / (pool.parallelism * 4))
+
+    /**
+     * Splits instants into chunks which begin with a new French year in the time zone.
      */
-    private fun getDateRomme(gregorianDate: Calendar): FrenchRevolutionaryCalendarDate {
-        // Time elapsed between the end of the French calendar and the given
-        // date. We have to include the daylight savings offset, because back in
-        // 1792-1811,
-        // daylight savings time wasn't being used. If we don't take into
-        // account the offset, a calculation like 8/5/1996 00:00:00 - 8/5/1796
-        // 00:00:00 will not return 200 years, but 200 years - 1 hour, which is
-        // not the desired result.
-        val numMillisSinceEndOfFrenchEra = gregorianDate.inUtc().timeInMillis - frenchEraEnd!!.inUtc().timeInMillis
+    private abstract inner class EpochMillisTask(
+            rules: ZoneRules,
+            protected val epochMillis: LongArray,
+            fromIndex: Int,
+            toIndex: Int,
+            threshold: Int) : BulkConversionTask(calculationMethod, rules, fromIndex, toIndex, threshold) {
+
+        override fun getKey(index: Int): Long = epochMillis[index]
+
+        override fun getYear(converter: BulkConverter, index: Int): Int? {
+            val localMillis = epochMillis[index] + converter.getOffsetMillis(epochMillis[index])
+            val yearAndDay = converter.getYearAndDay(EpochDays.floorDiv(localMillis, EpochDays.MILLIS_PER_DAY))
+            return if (yearAndDay == FrenchYears.NOT_SUPPORTED) null else FrenchYears.year(yearAndDay)
+        }
+
+        override fun getFirstKey(converter: BulkConverter, year: Int): Long {
+            val firstDayOfYear = converter.getFirstDayOfYear(year)
+            if (firstDayOfYear == FrenchYears.NOT_SUPPORTED) return FrenchYears.NOT_SUPPORTED
+            val localMillis = firstDayOfYear * EpochDays.MILLIS_PER_DAY
+            return localMillis - converter.getLocalOffsetMillis(localMillis, false)
+        }
+    }
+
+    private inner class EpochMillisToDatesTask(
+            rules: ZoneRules,
+            epochMillis: LongArray,
+            private val outYear: IntArray,
+            private val outMonth: ByteArray,
+            private val outDay: ByteArray,
+            fromIndex: Int,
+            toIndex: Int,
+            threshold: Int) : EpochMillisTask(rules, epochMillis, fromIndex, toIndex, threshold) {
+
+        override fun createSubtask(fromIndex: Int, toIndex: Int, threshold: Int): BulkConversionTask =
+                EpochMillisToDatesTask(rules, epochMillis, outYear, outMonth, outDay, fromIndex, toIndex, threshold)
+
+        override fun convert(converter: BulkConverter, fromIndex: Int, toIndex: Int) =
+                this@FrenchRevolutionaryCalendar.convert(converter, epochMillis, outYear, outMonth, outDay, fromIndex, toIndex)
+    }
 
-        // The Romme method applies the same
-        // rules (mostly) of the Gregorian calendar to the French calendar.
-        // One difference is the year 4000, which is a leap year in the
-        // Gregorian system, but not in the French system. For now we ignore
-        // this difference. We may address it and fix this code in the year
-        // 3999 :)
+    private inner class EpochMillisToPackedDatesTask(
+            rules: ZoneRules,
+            epochMillis: LongArray,
+            private val outPackedDates: LongArray,
+            fromIndex: Int,
+            toIndex: Int,
+            threshold: Int) : EpochMillisTask(rules, epochMillis, fromIndex, toIndex, threshold) {
 
-        // Create a fake calendar object (fake because this is not really a
-        // Gregorian date), corresponding to the end of the French calendar era.
-        // This was in the French year 20. Since in the Gregorian year 20, there
-        // were no leap years yet, we add 2000 to the year, so that the
-        // Gregorian calendar implementation can handle the leap years.
+        override fun createSubtask(fromIndex: Int, toIndex: Int, threshold: Int): BulkConversionTask =
+                EpochMillisToPackedDatesTask(rules, epochMillis, outPackedDates, fromIndex, toIndex, threshold)
 
-        // The end of the French calendar system was the beginning of the year
-        // 20.
-        val fakeEndFrenchEraTimestamp = createGregorianDateUtc(2020, 0, 1).timeInMillis
+        override fun convert(converter: BulkConverter, fromIndex: Int, toIndex: Int) =
+                this@FrenchRevolutionaryCalendar.getPackedDates(converter, epochMillis, outPackedDates, fromIndex, toIndex)
+    }
+
+    private inner class DatesToEpochMillisTask(
+            rules: ZoneRules,
+            private val year: IntArray,
+            private val month: ByteArray,
+            private val dayOfMonth: ByteArray,
+            private val outEpochMillis: LongArray,
+            fromIndex: Int,
+            toIndex: Int,
+            threshold: Int) : BulkConversionTask(calculationMethod, rules, fromIndex, toIndex, threshold) {
+
+        override fun createSubtask(fromIndex: Int, toIndex: Int, threshold: Int): BulkConversionTask =
+                DatesToEpochMillisTask(rules, year, month, dayOfMonth, outEpochMillis, fromIndex, toIndex, threshold)
+
+        override fun convert(converter: BulkConverter, fromIndex: Int, toIndex: Int) =
+                this@FrenchRevolutionaryCalendar.convert(converter, year, month, dayOfMonth, outEpochMillis, fromIndex, toIndex)
 
-        // Add the elapsed time to the French date.
-        val fakeFrenchTimestamp = fakeEndFrenchEraTimestamp + numMillisSinceEndOfFrenchEra
+        override fun getKey(index: Int): Long = year[index].toLong()
+
+        override fun getYear(converter: BulkConverter, index: Int): Int? = year[index]
+
+        override fun getFirstKey(converter: BulkConverter, year: Int): Long = year.toLong()
+    }
 
-        // Create a calendar object for the French date
-        val fakeFrenchDate = Calendar.getInstance(utcTimeZone)
-        fakeFrenchDate.timeInMillis = fakeFrenchTimestamp
+    private inner class PackedDatesToEpochMillisTask(
+            rules: ZoneRules,
+            private val packedDates: LongArray,
+            private val outEpochMillis: LongArray,
+            fromIndex: Int,
+            toIndex: Int,
+            threshold: Int) : BulkConversionTask(calculationMethod, rules, fromIndex, toIndex, threshold) {
 
-        // Extract the year, and day in year from the French date.
-        val frenchYear = fakeFrenchDate[Calendar.YEAR]
-        val frenchDayInYear = fakeFrenchDate[Calendar.DAY_OF_YEAR]
+        override fun createSubtask(fromIndex: Int, toIndex: Int, threshold: Int): BulkConversionTask =
+                PackedDatesToEpochMillisTask(rules, packedDates, outEpochMillis, fromIndex, toIndex, threshold)
 
-        // Create and return a French calendar object.
-        return createFrenchDate(frenchYear - 2000, frenchDayInYear - 1)
+        override fun convert(converter: BulkConverter, fromIndex: Int, toIndex: Int) =
+                this@FrenchRevolutionaryCalendar.getEpochMillis(converter, packedDates, outEpochMillis, fromIndex, toIndex)
+
+        override fun getKey(index: Int): Long = packedDates[index]
+
+        override fun getYear(converter: BulkConverter, index: Int): Int? = FrenchRevolutionaryCalendarPackedDate.getYear(packedDates[index])
+
+        override fun getFirstKey(converter: BulkConverter, year: Int): Long = FrenchRevolutionaryCalendarPackedDate.of(year, 1, 1, 0, 0, 0)
+    }
+
+    private fun convert(converter: BulkConverter, epochMillis: LongArray, outYear: IntArray, outMonth: ByteArray, outDay: ByteArray,
+                        fromIndex: Int, toIndex: Int) {
+        for (i in fromIndex until toIndex) {
+            val millis = epochMillis[i]
+            val localMillis = millis + converter.getOffsetMillis(millis)
+            val yearAndDay = converter.getYearAndDay(EpochDays.floorDiv(localMillis, EpochDays.MILLIS_PER_DAY))
+            if (yearAndDay == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $millis")
+            val dayInYear = FrenchYears.dayInYear(yearAndDay)
+            outYear[i] = FrenchYears.year(yearAndDay)
+            outMonth[i] = (dayInYear / 30 + 1).toByte()
+            outDay[i] = (dayInYear % 30 + 1).toByte()
+        }
+    }
+
+    private fun convert(converter: BulkConverter, year: IntArray, month: ByteArray, dayOfMonth: ByteArray, outEpochMillis: LongArray,
+                        fromIndex: Int, toIndex: Int) {
+        for (i in fromIndex until toIndex) {
+            val firstDayOfYear = converter.getFirstDayOfYear(year[i])
+            if (firstDayOfYear == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: ${year[i]}")
+            val localMillis = (firstDayOfYear + (month[i] - 1) * 30 + dayOfMonth[i] - 1) * EpochDays.MILLIS_PER_DAY
+            outEpochMillis[i] = localMillis - converter.getLocalOffsetMillis(localMillis, false)
+        }
+    }
+
+    private fun getPackedDates(converter: BulkConverter, epochMillis: LongArray, outPackedDates: LongArray, fromIndex: Int, toIndex: Int) {
+        for (i in fromIndex until toIndex) {
+            val packedDate = converter.getPackedDate(epochMillis[i])
+            if (packedDate == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: ${epochMillis[i]}")
+            outPackedDates[i] = packedDate
+        }
+    }
+
+    private fun getEpochMillis(converter: BulkConverter, packedDates: LongArray, outEpochMillis: LongArray, fromIndex: Int, toIndex: Int) {
+        for (i in fromIndex until toIndex) {
+            val millis = converter.getEpochMillis(packedDates[i])
+            if (millis == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: ${packedDates[i]}")
+            outEpochMillis[i] = millis
+        }
+    }
+
+    private fun checkLength(expectedLength: Int, actualLength: Int) {
+        if (actualLength < expectedLength) throw IllegalArgumentException("Array too short: $actualLength < $expectedLength")
     }
 
     /**
-     * @param frenchDate a date in the French Revolutionary Calendar
+     * @param epochDay the number of days since 1970-01-01
+     * @param secondOfDay the number of seconds since midnight
      *
-     * @return The Gregorian calendar date, in the UTC timezone, corresponding to the French date,
-     *         using the Romme method to determine the Gregorian date for the
-     *         first day of the French year.
-     */
-    private fun getDateRomme(frenchDate: FrenchRevolutionaryCalendarDate): GregorianCalendar {
-        // Create a fake calendar object (fake because this is not really a
-        // Gregorian date), corresponding to the end of the French calendar era.
-        // This was in the French year 20. Since in the Gregorian year 20, there
-        // were no leap years yet, we add 2000 to the year, so that the
-        // Gregorian calendar implementation can handle the leap years.
-        val fakeEndFrenchEraEndCalendar = createGregorianDateUtc(2020, 0, 1)
-
-        // Create a fake calendar object for the given French date
-        val fakeFrenchCalendar = createGregorianDateUtc(2000 + frenchDate.year, 0, 1)
-        fakeFrenchCalendar[Calendar.DAY_OF_YEAR] = frenchDate.dayInYear
-
-        // Determine how much time passed since the end of the French calendar (its year 20, Gregorian year 1811) and the given French date
-        val numMillisSinceFrenchEraEnd = fakeFrenchCalendar.timeInMillis + fakeFrenchCalendar[Calendar.DST_OFFSET] - fakeEndFrenchEraEndCalendar.timeInMillis - fakeEndFrenchEraEndCalendar[Calendar.DST_OFFSET]
-
-        // Create the Gregorian calendar object starting with 1811 and adding this time passed
-        val resultUtc = Calendar.getInstance(utcTimeZone) as GregorianCalendar
-        resultUtc.timeInMillis = frenchEraEnd.inUtc().timeInMillis + numMillisSinceFrenchEraEnd
-        return resultUtc.inDefaultTimeZone() as GregorianCalendar
-    }
-
-    /**
-     * @param gregorianDate
-     *
-     * @return The French date corresponding to the Gregorian calendar date,
-     *         using the 128 method to determine the leap years:
-     *         Years divisible by 4 but not divisible by 128 are leap years.
-     */
-    private fun getDateVonMadler(gregorianDate: Calendar): FrenchRevolutionaryCalendarDate {
-        // Time elapsed between the end of the French calendar and the given
-        // date. We have to include the daylight savings offset, because back in
-        // 1792-1811,
-        // daylight savings time wasn't being used. If we don't take into
-        // account the offset, a calculation like 8/5/1996 00:00:00 - 8/5/1796
-        // 00:00:00 will not return 200 years, but 200 years - 1 hour, which is
-        // not the desired result.
-        val numMillisSinceBeginningOfFrenchEra = gregorianDate.inUtc().timeInMillis - frenchEraYearZero!!.inUtc().timeInMillis
-        // The number of days since day 0 of the French calendar (1791-09-23).
-        val numDaysSinceFrenchEraBegin = (numMillisSinceBeginningOfFrenchEra / NUM_MILLISECONDS_IN_DAY).toInt()
-
-        var frenchYear = ((numDaysSinceFrenchEraBegin + 1) / VON_MADLER_DAYS_IN_YEAR).toInt()
-        // The number of days since 1791-09-23 to 1 Vendemiaire of the given year.
-        var numDaysFromFrenchEraBeginTo1VendemiaireThisYear = 365 * frenchYear + (frenchYear - 1) / 4 - (frenchYear - 1) / 128
-        // The number of the day in the given year, starting from 0
-        var frenchDayOfYear = numDaysSinceFrenchEraBegin - numDaysFromFrenchEraBeginTo1VendemiaireThisYear
-
-        // If the day was negative, this means it's in the previous year.  Rewind the year and recalculate the
-        // day of the year.
-        if (frenchDayOfYear < 0) {
-            frenchYear--
-            numDaysFromFrenchEraBeginTo1VendemiaireThisYear = 365 * frenchYear + (frenchYear - 1) / 4 - (frenchYear - 1) / 128
-            frenchDayOfYear = numDaysSinceFrenchEraBegin - numDaysFromFrenchEraBeginTo1VendemiaireThisYear
+     * @return the French date for the given day and time, or null if the day isn't supported.
+     */
+    private fun getDate(epochDay: Long, secondOfDay: Int): FrenchRevolutionaryCalendarDate? {
+        val packedDate = findPackedDate(epochDay, secondOfDay)
+        if (packedDate == FrenchYears.NOT_SUPPORTED) return null
+        return FrenchRevolutionaryCalendarPackedDate.toDate(packedDate, locale)
+    }
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     * @param secondOfDay the number of seconds since midnight
+     *
+     * @return the packed French date for the given day and time, or [FrenchYears.NOT_SUPPORTED]
+     */
+    internal fun findPackedDate(epochDay: Long, secondOfDay: Int): Long {
+        if (dayTable != null) {
+            val packedDate = dayTable.getPackedDate(epochDay)
+            if (packedDate != FrenchYears.NOT_SUPPORTED) return packedDate or toPackedTime(secondOfDay)
         }
-        return createFrenchDate(frenchYear, frenchDayOfYear)
+        // If we are using the equinox calculation method, or if we are within the dates the
+        // calendar was used (regardless of the selected calculation method), the equinox
+        // calculation method is used.
+        val yearAndDay = FrenchYears.getYearAndDay(calculationMethod, epochDay)
+        if (yearAndDay == FrenchYears.NOT_SUPPORTED) return FrenchYears.NOT_SUPPORTED
+        return toPackedDate(yearAndDay, secondOfDay)
     }
 
     /**
      * @param frenchDate a date in the French Revolutionary Calendar
      *
-     * @return The Gregorian calendar date corresponding to the French date,
-     *         using the 128 method to determine the leap years:
-     *         Years divisible by 4 but not divisible by 128 are leap years.
+     * @return the Gregorian calendar date, in the default time zone, corresponding to the given French Revolutionary Calendar date
      */
-    private fun getDateVonMadler(frenchDate: FrenchRevolutionaryCalendarDate): GregorianCalendar {
-        // The number of days from day 0 of the French calendar (1791-09-23) to 1 Vendemiaire of the given year.
-        val numDaysFromFrenchEraBeginTo1VendemiaireThisYear = frenchDate.year * 365 + (frenchDate.year - 1) / 4 - (frenchDate.year - 1) / 128
+    fun getDate(frenchDate: FrenchRevolutionaryCalendarDate): GregorianCalendar? {
+        val epochDay = getEpochDay(frenchDate.year, frenchDate.dayInYear)
+        if (epochDay == FrenchYears.NOT_SUPPORTED) return null
+        val date = EpochDays.toDate(epochDay)
+
+        val secondOfDay = toSecondOfDay(frenchDate.hour * 10_000 + frenchDate.minute * 100 + frenchDate.second)
+        val result = GregorianCalendar(TimeZone.getDefault())
+        result.clear()
+        val year = EpochDays.year(date)
+        if (year <= 0) {
+            result[Calendar.ERA] = GregorianCalendar.BC
+            result[Calendar.YEAR] = 1 - year
+        } else {
+            result[Calendar.YEAR] = year
+        }
+        result[Calendar.MONTH] = EpochDays.month(date) - 1
+        result[Calendar.DAY_OF_MONTH] = EpochDays.dayOfMonth(date)
+        result[Calendar.HOUR_OF_DAY] = secondOfDay / 3600
+        result[Calendar.MINUTE] = secondOfDay / 60 % 60
+        result[Calendar.SECOND] = secondOfDay % 60
+        return result
+    }
 
-        // The number of days from day 0 of the French calendar (1791-09-23), to the given French date.
-        val numDaysSinceFrenchEraBegin = numDaysFromFrenchEraBeginTo1VendemiaireThisYear + frenchDate.dayInYear - 1
+    /**
+     * @param frenchDate a date in the French Revolutionary Calendar
+     *
+     * @return the Gregorian date and time corresponding to the given French Revolutionary Calendar date,
+     *         or null if the date isn't supported.
+     *         Unlike [getDate], dates before 1582-10-15 are in the proleptic Gregorian calendar, as always with java.time.
+     */
+    fun getLocalDateTime(frenchDate: FrenchRevolutionaryCalendarDate): LocalDateTime? {
+        val epochDay = getEpochDay(frenchDate.year, frenchDate.dayInYear)
+        if (epochDay == FrenchYears.NOT_SUPPORTED) return null
+        val secondOfDay = toSecondOfDay(frenchDate.hour * 10_000 + frenchDate.minute * 100 + frenchDate.second)
+        return LocalDateTime.ofEpochSecond(epochDay * SECONDS_PER_DAY + secondOfDay, 0, ZoneOffset.UTC)
+    }
 
-        // The number of milliseconds from day 0 of the French calendar (1791-09-23), to the given French date.
-        val numMillisSinceBeginningOfFrenchEra = numDaysSinceFrenchEraBegin * NUM_MILLISECONDS_IN_DAY
+    /**
+     * @param frenchDate a date in the French Revolutionary Calendar
+     * @param zoneId the time zone of the French date
+     *
+     * @return the Gregorian date and time, in the given time zone, corresponding to the given French Revolutionary
+     *         Calendar date, or null if the date isn't supported.
+     */
+    fun getZonedDateTime(frenchDate: FrenchRevolutionaryCalendarDate, zoneId: ZoneId): ZonedDateTime? =
+            getLocalDateTime(frenchDate)?.atZone(zoneId)
 
-        val resultUtc = Calendar.getInstance(utcTimeZone) as GregorianCalendar
-        resultUtc.timeInMillis = numMillisSinceBeginningOfFrenchEra + frenchEraYearZero.inUtc().timeInMillis
-        return resultUtc.inDefaultTimeZone() as GregorianCalendar
+    /**
+     * @param frenchDate a date in the French Revolutionary Calendar
+     * @param days the number of days to add, which may be negative
+     *
+     * @return the given date, with the given number of days added. The time of the day doesn't change.
+     * @throws IllegalArgumentException if the date moves into a year which isn't supported.
+     */
+    fun plusDays(frenchDate: FrenchRevolutionaryCalendarDate, days: Long): FrenchRevolutionaryCalendarDate {
+        val dayInYear = frenchDate.dayInYear + days
+        // The first twelve months are in every year: only the complementary days depend on the calculation method.
+        if (dayInYear in 1..360) return frenchDate.copy(month = ((dayInYear - 1) / 30 + 1).toInt(), dayOfMonth = ((dayInYear - 1) % 30 + 1).toInt())
+        val firstDayOfYear = FrenchYears.getFirstDayOfYear(calculationMethod, frenchDate.year)
+        if (firstDayOfYear == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $frenchDate")
+        val yearAndDay = FrenchYears.getYearAndDay(calculationMethod, firstDayOfYear + dayInYear - 1)
+        if (yearAndDay == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $frenchDate plus $days days")
+        val newDayInYear = FrenchYears.dayInYear(yearAndDay)
+        return frenchDate.copy(year = FrenchYears.year(yearAndDay), month = newDayInYear / 30 + 1, dayOfMonth = newDayInYear % 30 + 1)
     }
 
     /**
-     * @param frenchYear the year in the French calendar
-     * @param numberDaysInFrenchYear  number of days since 1st Vendemiare of the given year, starting with 0.
+     * @param frenchDate a date in the French Revolutionary Calendar
+     * @param decades the number of décades (periods of ten days) to add, which may be negative
      *
-     * @return A French calendar object for the given French day.
+     * @return the given date, with the given number of décades added. The time of the day doesn't change.
+     * @throws IllegalArgumentException if the date moves into a year which isn't supported.
      */
-    private fun createFrenchDate(frenchYear: Int, numberDaysInFrenchYear: Int): FrenchRevolutionaryCalendarDate {
-        // Find the month in the French year, starting from 0.
-        val numberMonthInFrenchYear = numberDaysInFrenchYear / 30
+    fun plusDecades(frenchDate: FrenchRevolutionaryCalendarDate, decades: Long): FrenchRevolutionaryCalendarDate =
+            plusDays(frenchDate, decades * 10)
 
-        // Find the day in the French month, starting from 0.
-        val numberDaysInFrenchMonth = numberDaysInFrenchYear - numberMonthInFrenchYear * 30
-
-        // Create and return the French calendar object.
-        return FrenchRevolutionaryCalendarDate(locale, frenchYear, numberMonthInFrenchYear + 1,
-                numberDaysInFrenchMonth + 1, 0, 0, 0)
+    /**
+     * @param frenchDate a date in the French Revolutionary Calendar
+     * @param months the number of months to add, which may be negative. The complementary days count as the 13th month.
+     *
+     * @return the given date, with the given number of months added. The time of the day doesn't change.
+     *         If the day doesn't exist in the new month, because it's in the complementary days, the date is the
+     *         last complementary day.
+     * @throws IllegalArgumentException if the date moves into the complementary days of a year which isn't supported.
+     */
+    fun plusMonths(frenchDate: FrenchRevolutionaryCalendarDate, months: Long): FrenchRevolutionaryCalendarDate {
+        val monthCount = frenchDate.year * 13L + frenchDate.month - 1 + months
+        val year = EpochDays.floorDiv(monthCount, 13).toInt()
+        val month = (monthCount - year * 13L).toInt() + 1
+        return withYearAndMonth(frenchDate, year, month)
     }
 
     /**
-     * @param year the year in the Gregorian calendar
-     * @param month the month in the Gregorian calendar, starting from 0
-     * @param day the day in the month, in the Gregorian calendar
+     * @param frenchDate a date in the French Revolutionary Calendar
+     * @param years the number of years to add, which may be negative
      *
-     * @return a Gregorian calendar, in the UTC time zone, for the given year, month, and day
+     * @return the given date, with the given number of years added. The time of the day doesn't change.
+     *         The 6th complementary day becomes the 5th complementary day if the new year isn't a sextile year.
+     * @throws IllegalArgumentException if the date moves into the complementary days of a year which isn't supported.
      */
-    private fun createGregorianDateUtc(year: Int, month: Int, day: Int): GregorianCalendar {
-        val result = Calendar.getInstance(utcTimeZone) as GregorianCalendar
-        result[Calendar.YEAR] = year
-        result[Calendar.MONTH] = month
-        result[Calendar.DAY_OF_MONTH] = day
-        result[Calendar.HOUR_OF_DAY] = 0
-        result[Calendar.MINUTE] = 0
-        result[Calendar.SECOND] = 0
-        result[Calendar.MILLISECOND] = 0
-        return result
-    }
+    fun plusYears(frenchDate: FrenchRevolutionaryCalendarDate, years: Long): FrenchRevolutionaryCalendarDate =
+            withYearAndMonth(frenchDate, Math.toIntExact(frenchDate.year + years), frenchDate.month)
 
-    private fun Calendar.inUtc(): Calendar {
-        return inTimeZone(utcTimeZone)
+    private fun withYearAndMonth(frenchDate: FrenchRevolutionaryCalendarDate, year: Int, month: Int): FrenchRevolutionaryCalendarDate {
+        if (month < 13 || frenchDate.dayOfMonth <= 5) return frenchDate.copy(year = year, month = month)
+        // Only sextile years have a 6th complementary day.
+        return frenchDate.copy(year = year, month = month, dayOfMonth = Math.min(frenchDate.dayOfMonth, getDaysInYear(year) - 360))
     }
 
-    private fun Calendar.inDefaultTimeZone(): Calendar {
-        return inTimeZone(TimeZone.getDefault())
+    /**
+     * @param frenchYear a year in the French Revolutionary Calendar
+     *
+     * @return the number of days since 1970-01-01 of 1 Vendémiaire of the given year, like [LocalDate.toEpochDay]
+     * @throws IllegalArgumentException if the year isn't supported.
+     */
+    fun getFirstDayOfYear(frenchYear: Int): Long {
+        val firstDayOfYear = FrenchYears.getFirstDayOfYear(calculationMethod, frenchYear)
+        if (firstDayOfYear == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Year not supported: $frenchYear")
+        return firstDayOfYear
     }
 
     /**
-     * Create a Calendar with the given time zone, but with year, month, day, hour, minute, and seconds
-     * remaining the same as the original calendar. This is different from just setting the time zone field on a
-     * Calendar object. This extension creates a new Calendar with a different timeInMillis than the original.
+     * @param frenchYear a year in the French Revolutionary Calendar
+     *
+     * @return the number of days in the given year: 366 for a sextile year, 365 otherwise.
+     * @throws IllegalArgumentException if the year isn't supported. With the equinox method, the lengths of the years
+     *         -2791 to 1208 are supported. The first day of the year 1209 is supported, but not its length: the
+     *         equinox dates end with the year 3000, so the first day of the year 1210 isn't known.
      */
-    private fun Calendar.inTimeZone(timeZone : TimeZone) : Calendar {
-        val result = GregorianCalendar(timeZone)
-        result[Calendar.YEAR] = get(Calendar.YEAR)
-        result[Calendar.MONTH] = get(Calendar.MONTH)
-        result[Calendar.DAY_OF_MONTH] = get(Calendar.DAY_OF_MONTH)
-        result[Calendar.HOUR_OF_DAY] = get(Calendar.HOUR_OF_DAY)
-        result[Calendar.MINUTE] = get(Calendar.MINUTE)
-        result[Calendar.SECOND] = get(Calendar.SECOND)
-        result[Calendar.MILLISECOND] = 0
-        return result
+    fun getDaysInYear(frenchYear: Int): Int {
+        val daysInYear = FrenchYears.getDaysInYear(calculationMethod, frenchYear)
+        if (daysInYear == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Year not supported: $frenchYear")
+        return daysInYear.toInt()
     }
 
-    private fun debug(o: Any, t: Throwable?) {
-        println(javaClass.name + ": " + o)
-        t?.printStackTrace()
+    /**
+     * @param frenchYear a year in the French Revolutionary Calendar
+     *
+     * @return true if the given year is a sextile year: a year with a 6th complementary day.
+     * @throws IllegalArgumentException if the year isn't supported, like with [getDaysInYear].
+     */
+    fun isSextileYear(frenchYear: Int): Boolean = getDaysInYear(frenchYear) == 366
+
+    /**
+     * @param dayInYear the number of days since the beginning of the year, starting with 1.
+     *
+     * @return the number of days since 1970-01-01 of the given French date, or [FrenchYears.NOT_SUPPORTED]
+     */
+    private fun getEpochDay(frenchYear: Int, dayInYear: Int): Long {
+        val firstDayOfYear = FrenchYears.getFirstDayOfYear(calculationMethod, frenchYear)
+        if (firstDayOfYear == FrenchYears.NOT_SUPPORTED) return FrenchYears.NOT_SUPPORTED
+        return firstDayOfYear + dayInYear - 1
     }
 
     companion object {
 
-        private const val DATE_FORMAT = "yyyy-MM-dd HH:mm:ss"
-        private const val FRENCH_ERA_YEAR_ZERO = "1791-09-23 00:00:00"
-        private const val FRENCH_ERA_YEAR_ONE = "1792-09-22 00:00:00"
-        private const val FRENCH_ERA_END = "1811-09-23 00:00:00"
-        private const val NUM_MILLISECONDS_IN_DAY = (1000 * 60 * 60 * 24).toLong()
-        private const val EQUINOX_MONTH = 8 // September
-
-        // Von Madler eap years are divisible by 4 but not by 128.
-        private val VON_MADLER_DAYS_IN_YEAR = 365 + 1.0 / 4 - 1.0 / 128
+        private const val SECONDS_PER_DAY = 86_400L
+        private const val MIN_PARALLEL_CHUNK_SIZE = 8192
 
         /**
          * @return a decimal representation of the time within this day. Returns
          *         three ints for hour, minutes, seconds, respectively. The hour is
          *         from 0 to 9, the minute is from 0 to 99, and the second is from
-         *         0 to 99.
+         *         0 to 99. The time is rounded to the nearest decimal second, like the
+         *         times of the French dates.
          */
         @JvmStatic
         fun getFrenchTime(gtime: Calendar): IntArray {
-            val ghour = gtime[Calendar.HOUR_OF_DAY]
-            val gmin = gtime[Calendar.MINUTE]
-            val gsec = gtime[Calendar.SECOND]
-
-            val dayFraction = ghour.toFloat() / 24 + gmin.toFloat() / 1440 + gsec.toFloat() / 86400
-            val fhour = (dayFraction * 10).toInt()
-            val fmin = ((dayFraction * 10 - fhour) * 100).toInt()
-            val fsec = ((dayFraction * 10 - (fhour + fmin.toFloat() / 100)) * 10000).roundToInt()
-            return intArrayOf(fhour, fmin, fsec)
+            val decimalSecondOfDay = toDecimalSecondOfDay(gtime[Calendar.HOUR_OF_DAY] * 3600 + gtime[Calendar.MINUTE] * 60 + gtime[Calendar.SECOND])
+            return intArrayOf(decimalSecondOfDay / 10_000, decimalSecondOfDay / 100 % 100, decimalSecondOfDay % 100)
         }
 
         /**
@@ -427,38 +775,91 @@ class FrenchRevolutionaryCalendar(
          */
         @JvmStatic
         fun get24HourTime(frenchDate: FrenchRevolutionaryCalendarDate): IntArray {
-            val fhour = frenchDate.hour
-            val fmin = frenchDate.minute
-            val fsec = frenchDate.second
-
-            val dayFraction = fhour.toFloat() / 10 + fmin.toFloat() / 1000 + fsec.toFloat() / 100000
-            val ghour = (dayFraction * 24).toInt()
-            val gmin = ((dayFraction * 24 - ghour) * 60).toInt()
-            val gsec = ((dayFraction * 24 - (ghour + gmin.toFloat() / 60)) * 3600).roundToInt()
-            return intArrayOf(ghour, gmin, gsec)
+            val secondOfDay = toSecondOfDay(frenchDate.hour * 10_000 + frenchDate.minute * 100 + frenchDate.second)
+            return intArrayOf(secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60)
         }
 
+        /**
+         * Like [getFrenchTime], but exact to the decimal millisecond, and without creating any objects: the result is the
+         * decimal time which the clock shows at the given instant, which isn't rounded to the nearest decimal second.
+         * See [FrenchRevolutionaryCalendarDecimalTime].
+         *
+         * @param epochMillis the number of milliseconds since 1970-01-01 00:00:00 UTC
+         * @param timeZone the time zone in which to read the time of day of the given instant
+         * @param outTime receives the decimal hour (0 to 9), minute (0 to 99), second (0 to 99),
+         *        and millisecond (0 to 999) in its first four elements
+         */
+        @JvmStatic
+        fun getFrenchTime(epochMillis: Long, timeZone: TimeZone, outTime: IntArray) {
+            val decimalTime = FrenchRevolutionaryCalendarDecimalTime.ofEpochMillis(epochMillis, timeZone)
+            outTime[0] = FrenchRevolutionaryCalendarDecimalTime.getHour(decimalTime)
+            outTime[1] = FrenchRevolutionaryCalendarDecimalTime.getMinute(decimalTime)
+            outTime[2] = FrenchRevolutionaryCalendarDecimalTime.getSecond(decimalTime)
+            outTime[3] = FrenchRevolutionaryCalendarDecimalTime.getMillisecond(decimalTime)
+        }
+
+        /**
+         * Like [get24HourTime], but exact to the millisecond, and without creating any objects: the result is the
+         * first millisecond at which the clock shows the decimal time of the given date.
+         *
+         * @param outTime receives the hour (0 to 23), minute (0 to 59), second (0 to 59),
+         *        and millisecond (0 to 999) in its first four elements
+         */
+        @JvmStatic
+        fun get24HourTime(frenchDate: FrenchRevolutionaryCalendarDate, outTime: IntArray) {
+            val millisOfDay = FrenchRevolutionaryCalendarDecimalTime.toMillisOfDay(
+                    FrenchRevolutionaryCalendarDecimalTime.of(frenchDate.hour, frenchDate.minute, frenchDate.second, 0))
+            outTime[0] = millisOfDay / 3_600_000
+            outTime[1] = millisOfDay / 60_000 % 60
+            outTime[2] = millisOfDay / 1000 % 60
+            outTime[3] = millisOfDay % 1000
+        }
+
+        /**
+         * @param yearAndDay the French year and day in the year, from [FrenchYears.getYearAndDay]
+         * @param secondOfDay the number of seconds since midnight
+         *
+         * @return the French date and time, packed with [FrenchRevolutionaryCalendarPackedDate]
+         */
+        internal fun toPackedDate(yearAndDay: Long, secondOfDay: Int): Long {
+            val dayInYear = FrenchYears.dayInYear(yearAndDay)
+            return FrenchRevolutionaryCalendarPackedDate.of(FrenchYears.year(yearAndDay), dayInYear / 30 + 1, dayInYear % 30 + 1, 0, 0, 0) or
+                    toPackedTime(secondOfDay)
+        }
 
         /**
-         * @param gyear a year in the Gregorian calendar
-         * @param timeZone the returned calendar object will have this time zone
+         * @param secondOfDay the number of seconds since midnight
          *
-         * @return the day, in the Gregorian calendar, of the autumn equinox (at midnight) in the given timezone, for the given year, if the given year is between -1000 and 3000 inclusive. Returns null otherwise.
+         * @return the decimal time, packed with [FrenchRevolutionaryCalendarPackedDate], with a date of zeros.
          */
-        private fun getAutumnEquinox(gyear: Int, timeZone: TimeZone): Calendar? {
-            // Create a date object for the autumn equinox date (at midnight) in the
-            // given timezone.
-            val gAutumnEquinoxDay = EquinoxDates.getAutumnEquinox(gyear) ?: return null
-            val gAutumnEquinox = Calendar.getInstance(timeZone)
-            gAutumnEquinox.set(Calendar.YEAR, gyear)
-            gAutumnEquinox.set(Calendar.MONTH, EQUINOX_MONTH)
-            gAutumnEquinox.set(Calendar.DAY_OF_MONTH, gAutumnEquinoxDay)
-            gAutumnEquinox.set(Calendar.HOUR_OF_DAY, 0)
-            gAutumnEquinox.set(Calendar.MINUTE, 0)
-            gAutumnEquinox.set(Calendar.SECOND, 0)
-            gAutumnEquinox.set(Calendar.MILLISECOND, 0)
-            return gAutumnEquinox
+        internal fun toPackedTime(secondOfDay: Int): Long {
+            val decimalSecondOfDay = toDecimalSecondOfDay(secondOfDay)
+            return FrenchRevolutionaryCalendarPackedDate.of(0, 0, 0, decimalSecondOfDay / 10_000, decimalSecondOfDay / 100 % 100, decimalSecondOfDay % 100)
         }
 
+        /**
+         * @param secondOfDay the number of seconds since midnight, from 0 to 86,399
+         *
+         * @return the nearest decimal second of the day, from 0 to 99,999. A day has 86,400 seconds and 100,000 decimal
+         *         seconds: 108 seconds are 125 decimal seconds. Integer arithmetic only, so the decimal second is never
+         *         rounded up to 100.
+         */
+        private fun toDecimalSecondOfDay(secondOfDay: Int): Int = (secondOfDay * 250 + 108) / 216
+
+        /**
+         * @return the number of milliseconds since midnight, in 24-hour time, of the decimal time of the given packed date.
+         */
+        internal fun getMillisOfDay(packedDate: Long): Long = toSecondOfDay(
+                FrenchRevolutionaryCalendarPackedDate.getHour(packedDate) * 10_000
+                        + FrenchRevolutionaryCalendarPackedDate.getMinute(packedDate) * 100
+                        + FrenchRevolutionaryCalendarPackedDate.getSecond(packedDate)) * 1000L
+
+        /**
+         * @param decimalSecondOfDay the number of decimal seconds since midnight, from 0 to 99,999
+         *
+         * @return the nearest second of the day, from 0 to 86,399. Each second of the day is converted back from its
+         *         nearest decimal second by [toDecimalSecondOfDay].
+         */
+        private fun toSecondOfDay(decimalSecondOfDay: Int): Int = (decimalSecondOfDay * 216 + 125) / 250
     }
 }
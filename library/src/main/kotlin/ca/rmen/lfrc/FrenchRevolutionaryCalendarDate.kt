@@ -22,6 +22,7 @@ package ca.rmen.lfrc
 import java.io.Serializable
 import java.util.Locale
 
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod
 import ca.rmen.lfrc.FrenchRevolutionaryCalendar.DailyObjectType
 import ca.rmen.lfrc.i18n.FrenchRevolutionaryCalendarLabels
 
@@ -53,42 +54,93 @@ data class FrenchRevolutionaryCalendarDate(
         @JvmField val minute: Int,
         @JvmField val second: Int) : Serializable {
 
+    // The properties below are computed each time they're read, rather than stored in fields,
+    // so that dates which are only used for their year, month, and day are small and quick to create.
+
     /**
      * A number from 1 to 10.
      */
-    val dayInWeek: Int = (dayOfMonth - 1) % 10 + 1
+    val dayInWeek: Int get() = (dayOfMonth - 1) % 10 + 1
 
     /**
      * A number from 1 to 3.
      */
-    val weekInMonth: Int = (dayOfMonth - 1) / 10 + 1
+    val weekInMonth: Int get() = (dayOfMonth - 1) / 10 + 1
 
     /**
      * The number of days since the beginning of the year, starting with 1.
      */
-    val dayInYear: Int = (month - 1) * 30 + dayOfMonth
+    val dayInYear: Int get() = (month - 1) * 30 + dayOfMonth
 
-    val monthName: String = FrenchRevolutionaryCalendarLabels.getInstance(locale).getMonthName(month)
+    val monthName: String get() = FrenchRevolutionaryCalendarLabels.getInstance(locale).getMonthName(month)
 
-    val weekdayName: String = FrenchRevolutionaryCalendarLabels.getInstance(locale).getWeekdayName(dayInWeek)
+    val weekdayName: String get() = FrenchRevolutionaryCalendarLabels.getInstance(locale).getWeekdayName(dayInWeek)
 
     /**
      * The name of the object of the day in the year, in the given locale.
      */
-    val objectOfTheDay: String = FrenchRevolutionaryCalendarLabels.getInstance(locale).getDayOfYear(month, dayOfMonth)
+    val objectOfTheDay: String get() = FrenchRevolutionaryCalendarLabels.getInstance(locale).getDayOfYear(month, dayOfMonth)
+
+    val objectType: DailyObjectType get() = getObjectType(month, dayOfMonth)
+
+    val objectTypeName: String get() = FrenchRevolutionaryCalendarLabels.getInstance(locale).getDailyObjectTypeName(objectType)
+
+    /**
+     * @param calculationMethod the method which determines the first day of the year of this date
+     *
+     * @return the number of days from 1970-01-01 to this date, like [java.time.LocalDate.toEpochDay].
+     *         The time of the day is ignored.
+     * @throws IllegalArgumentException if the date isn't supported.
+     */
+    fun toEpochDay(calculationMethod: CalculationMethod): Long {
+        val firstDayOfYear = FrenchYears.getFirstDayOfYear(calculationMethod, year)
+        if (firstDayOfYear == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: $this")
+        return firstDayOfYear + dayInYear - 1
+    }
 
-    val objectType: DailyObjectType
+    companion object {
 
-    val objectTypeName: String
+        /**
+         * @return the type of the object of the given day
+         */
+        internal fun getObjectType(month: Int, dayOfMonth: Int): DailyObjectType =
+                when {
+                    month == 13 -> DailyObjectType.CONCEPT
+                    dayOfMonth % 10 == 0 -> DailyObjectType.TOOL
+                    dayOfMonth % 5 == 0 -> DailyObjectType.ANIMAL
+                    month == 4 -> DailyObjectType.MINERAL
+                    else -> DailyObjectType.PLANT
+                }
 
-    init {
-        when {
-            month == 13 -> objectType = DailyObjectType.CONCEPT
-            dayOfMonth % 10 == 0 -> objectType = DailyObjectType.TOOL
-            dayOfMonth %5 == 0 -> objectType = DailyObjectType.ANIMAL
-            month == 4 -> objectType = DailyObjectType.MINERAL
-            else -> objectType = DailyObjectType.PLANT
+        /**
+         * @param epochDay the number of days since 1970-01-01, like [java.time.LocalDate.ofEpochDay]
+         * @param calculationMethod the method to calculate the first day of the French year
+         * @param locale the locale of the labels of the date. By default, the default locale.
+         *
+         * @return the French date of the given day, at midnight.
+         * @throws IllegalArgumentException if the date isn't supported.
+         */
+        @JvmStatic
+        @JvmOverloads
+        fun ofEpochDay(epochDay: Long, calculationMethod: CalculationMethod, locale: Locale = Locale.getDefault()): FrenchRevolutionaryCalendarDate {
+            val yearAndDay = FrenchYears.getYearAndDay(calculationMethod, epochDay)
+            if (yearAndDay == FrenchYears.NOT_SUPPORTED) throw IllegalArgumentException("Date not supported: epoch day $epochDay")
+            val dayInYear = FrenchYears.dayInYear(yearAndDay)
+            return FrenchRevolutionaryCalendarDate(locale, FrenchYears.year(yearAndDay), dayInYear / 30 + 1, dayInYear % 30 + 1, 0, 0, 0)
         }
-        objectTypeName = FrenchRevolutionaryCalendarLabels.getInstance(locale).getDailyObjectTypeName(objectType)
+
+        /**
+         * @param calculationMethod the method which determines the first day of the years of the dates
+         *
+         * @return the number of days from the start date to the end date, which is negative if the end date is before
+         *         the start date. The times of the days are ignored.
+         *         Dates in the same year are subtracted without looking up the year.
+         * @throws IllegalArgumentException if the dates are in different years, and one of them isn't supported.
+         */
+        @JvmStatic
+        fun daysBetween(startInclusive: FrenchRevolutionaryCalendarDate, endExclusive: FrenchRevolutionaryCalendarDate,
+                        calculationMethod: CalculationMethod): Long =
+                if (startInclusive.year == endExclusive.year) (endExclusive.dayInYear - startInclusive.dayInYear).toLong()
+                else endExclusive.toEpochDay(calculationMethod) - startInclusive.toEpochDay(calculationMethod)
     }
 }
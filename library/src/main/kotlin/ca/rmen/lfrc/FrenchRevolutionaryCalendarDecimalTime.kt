@@ -0,0 +1,115 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import java.util.TimeZone
+
+/**
+ * A decimal time of day, packed into an int: the number of decimal milliseconds since midnight, from 0 to 99,999,999.
+ * Its decimal digits are the hour, minute, second and millisecond: 5:12:34.567 is 51234567.
+ *
+ * The conversions use integer arithmetic only, and are exact: a time is converted to the decimal time which
+ * the clock shows at that time, and a decimal time is converted to the first millisecond at which the clock shows it.
+ * No objects are created.
+ *
+ * @author calvarez
+ */
+object FrenchRevolutionaryCalendarDecimalTime {
+
+    /**
+     * The number of decimal milliseconds in a day.
+     */
+    const val MILLIS_PER_DAY = 100_000_000
+
+    private const val MILLIS_PER_HOUR = 10_000_000
+    private const val MILLIS_PER_MINUTE = 100_000
+    private const val MILLIS_PER_SECOND = 1000
+
+    // A day has 86,400,000 milliseconds and 100,000,000 decimal milliseconds: 108 milliseconds are 125 decimal milliseconds.
+    private const val MILLIS_RATIO = 108L
+    private const val DECIMAL_MILLIS_RATIO = 125L
+
+    /**
+     * @param hour the decimal hour, from 0 to 9
+     * @param minute the decimal minute, from 0 to 99
+     * @param second the decimal second, from 0 to 99
+     * @param millisecond the decimal millisecond, from 0 to 999
+     *
+     * @return the given decimal time, packed into an int
+     */
+    @JvmStatic
+    fun of(hour: Int, minute: Int, second: Int, millisecond: Int): Int =
+            hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND + millisecond
+
+    /**
+     * @param millisOfDay the number of milliseconds since midnight, from 0 to 86,399,999
+     *
+     * @return the decimal time which the clock shows at the given time of day
+     * @throws IllegalArgumentException if the time isn't within a day
+     */
+    @JvmStatic
+    fun ofMillisOfDay(millisOfDay: Int): Int {
+        if (millisOfDay < 0 || millisOfDay >= EpochDays.MILLIS_PER_DAY) throw IllegalArgumentException("Invalid time of day: $millisOfDay")
+        return (millisOfDay * DECIMAL_MILLIS_RATIO / MILLIS_RATIO).toInt()
+    }
+
+    /**
+     * @param epochMillis the number of milliseconds since 1970-01-01 00:00:00 UTC
+     * @param timeZone the time zone in which to read the time of day of the given instant
+     *
+     * @return the decimal time which the clock shows at the given instant
+     */
+    @JvmStatic
+    fun ofEpochMillis(epochMillis: Long, timeZone: TimeZone): Int {
+        val localMillis = epochMillis + timeZone.getOffset(epochMillis)
+        return ofMillisOfDay(EpochDays.floorMod(localMillis, EpochDays.MILLIS_PER_DAY).toInt())
+    }
+
+    /**
+     * @param decimalTime a decimal time, packed with [of]
+     *
+     * @return the first millisecond of the day, in 24-hour time, at which the clock shows the given decimal time
+     * @throws IllegalArgumentException if the decimal time isn't within a day
+     */
+    @JvmStatic
+    fun toMillisOfDay(decimalTime: Int): Int {
+        if (decimalTime < 0 || decimalTime >= MILLIS_PER_DAY) throw IllegalArgumentException("Invalid decimal time: $decimalTime")
+        // Round up: the decimal time starts during the millisecond before, which still shows the previous decimal time.
+        return ((decimalTime * MILLIS_RATIO + DECIMAL_MILLIS_RATIO - 1) / DECIMAL_MILLIS_RATIO).toInt()
+    }
+
+    @JvmStatic
+    fun getHour(decimalTime: Int): Int = decimalTime / MILLIS_PER_HOUR
+
+    @JvmStatic
+    fun getMinute(decimalTime: Int): Int = decimalTime / MILLIS_PER_MINUTE % 100
+
+    @JvmStatic
+    fun getSecond(decimalTime: Int): Int = decimalTime / MILLIS_PER_SECOND % 100
+
+    @JvmStatic
+    fun getMillisecond(decimalTime: Int): Int = decimalTime % MILLIS_PER_SECOND
+
+    /**
+     * @return the number of decimal seconds since midnight, from 0 to 99,999.
+     */
+    @JvmStatic
+    fun getSecondOfDay(decimalTime: Int): Int = decimalTime / MILLIS_PER_SECOND
+}
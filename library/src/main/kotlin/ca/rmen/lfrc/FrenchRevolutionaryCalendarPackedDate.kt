@@ -0,0 +1,105 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import java.util.Locale
+
+/**
+ * A timestamp in the French Revolutionary Calendar packed into a long, for code which converts a lot of dates
+ * and doesn't need a [FrenchRevolutionaryCalendarDate] object for each of them.
+ *
+ * The fields are packed from the most significant bits to the least significant bits: year, month, day of month,
+ * hour, minute, second. Packed dates can be compared and sorted like any long, in chronological order.
+ *
+ * @author calvarez
+ */
+object FrenchRevolutionaryCalendarPackedDate {
+
+    private const val SECOND_SHIFT = 0
+    private const val MINUTE_SHIFT = 7
+    private const val HOUR_SHIFT = 14
+    internal const val DAY_OF_MONTH_SHIFT = 18
+    private const val MONTH_SHIFT = 23
+    private const val YEAR_SHIFT = 27
+
+    private const val SECOND_MASK = 0x7fL
+    private const val MINUTE_MASK = 0x7fL
+    private const val HOUR_MASK = 0xfL
+    private const val DAY_OF_MONTH_MASK = 0x1fL
+    private const val MONTH_MASK = 0xfL
+
+    /**
+     * @param year the year, which may be negative
+     * @param month the month in the year, from 1 to 13
+     * @param dayOfMonth the day in the month, from 1 to 30
+     * @param hour the hour of the day, from 0 to 9
+     * @param minute the minute of the hour, from 0 to 99
+     * @param second the second of the minute, from 0 to 99
+     *
+     * @return the given date and time, packed into a long
+     */
+    @JvmStatic
+    fun of(year: Int, month: Int, dayOfMonth: Int, hour: Int, minute: Int, second: Int): Long =
+            (year.toLong() shl YEAR_SHIFT) or
+                    (month.toLong() shl MONTH_SHIFT) or
+                    (dayOfMonth.toLong() shl DAY_OF_MONTH_SHIFT) or
+                    (hour.toLong() shl HOUR_SHIFT) or
+                    (minute.toLong() shl MINUTE_SHIFT) or
+                    (second.toLong() shl SECOND_SHIFT)
+
+    /**
+     * @return the date and time of the given French date, packed into a long
+     */
+    @JvmStatic
+    fun of(date: FrenchRevolutionaryCalendarDate): Long =
+            of(date.year, date.month, date.dayOfMonth, date.hour, date.minute, date.second)
+
+    /**
+     * @return a French date object for the given packed date, with labels in the given locale
+     */
+    @JvmStatic
+    fun toDate(packedDate: Long, locale: Locale): FrenchRevolutionaryCalendarDate =
+            FrenchRevolutionaryCalendarDate(locale, getYear(packedDate), getMonth(packedDate), getDayOfMonth(packedDate),
+                    getHour(packedDate), getMinute(packedDate), getSecond(packedDate))
+
+    @JvmStatic
+    fun getYear(packedDate: Long): Int = (packedDate shr YEAR_SHIFT).toInt()
+
+    @JvmStatic
+    fun getMonth(packedDate: Long): Int = ((packedDate shr MONTH_SHIFT) and MONTH_MASK).toInt()
+
+    @JvmStatic
+    fun getDayOfMonth(packedDate: Long): Int = ((packedDate shr DAY_OF_MONTH_SHIFT) and DAY_OF_MONTH_MASK).toInt()
+
+    @JvmStatic
+    fun getHour(packedDate: Long): Int = ((packedDate shr HOUR_SHIFT) and HOUR_MASK).toInt()
+
+    @JvmStatic
+    fun getMinute(packedDate: Long): Int = ((packedDate shr MINUTE_SHIFT) and MINUTE_MASK).toInt()
+
+    @JvmStatic
+    fun getSecond(packedDate: Long): Int = ((packedDate shr SECOND_SHIFT) and SECOND_MASK).toInt()
+
+    /**
+     * @return the number of days since the beginning of the year, starting with 1.
+     */
+    @JvmStatic
+    fun getDayInYear(packedDate: Long): Int = (getMonth(packedDate) - 1) * 30 + getDayOfMonth(packedDate)
+}
@@ -0,0 +1,213 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod
+import ca.rmen.lfrc.EpochDays.floorDiv
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * Finds the French year of a given day, and the first day of a given French year, for each calculation method.
+ *
+ * All days are epoch days (the number of days since 1970-01-01), so no Calendar objects are involved.
+ *
+ * For the years the French calendar was used (years 1 to 19), all calculation methods use the equinox.
+ *
+ * @author calvarez
+ */
+internal object FrenchYears {
+
+    /**
+     * Returned when a date is outside of the range of dates supported by the equinox method.
+     */
+    const val NOT_SUPPORTED = Long.MIN_VALUE
+
+    // The French year 1 began in the Gregorian year 1792.
+    private const val GREGORIAN_YEAR_OF_FRENCH_YEAR_ZERO = 1791
+
+    // 1792-09-22: 1 Vendémiaire of the year 1.
+    private val FRENCH_ERA_START = EpochDays.of(1792, 9, 22)
+
+    // 1811-09-23: 1 Vendémiaire of the year 20, the first year after the years the calendar was used.
+    private val FRENCH_ERA_END = EpochDays.of(1811, 9, 23)
+
+    // The Romme method applies the leap year rules of the Gregorian calendar to the French years.
+    // We count the years from the end of the French era, because the first 19 years didn't follow this rule.
+    private const val ROMME_FIRST_YEAR = 20
+    private val ROMME_FIRST_YEAR_START = FRENCH_ERA_END
+    private const val ROMME_DAYS_IN_400_YEARS = 146097L
+    private const val ROMME_DAYS_IN_100_YEARS = 36524L
+    private const val ROMME_DAYS_IN_4_YEARS = 1461L
+
+    // 1791-09-23: 1 Vendémiaire of the year 0, for the von Mädler method.
+    private val VON_MADLER_YEAR_ZERO_START = EpochDays.of(1791, 9, 23)
+    // Von Mädler leap years are divisible by 4 but not by 128.
+    private const val VON_MADLER_DAYS_IN_128_YEARS = 128 * 365L + 32 - 1
+
+    // The years of the table of the first days of the years: the years supported by the equinox method.
+    const val TABLE_FIRST_YEAR = EquinoxDates.FIRST_YEAR - GREGORIAN_YEAR_OF_FRENCH_YEAR_ZERO
+    const val TABLE_LAST_YEAR = EquinoxDates.LAST_YEAR - GREGORIAN_YEAR_OF_FRENCH_YEAR_ZERO
+
+    // For each calculation method, the epoch day of 1 Vendémiaire of each year of the table.
+    // The tables are created the first time they're needed. If two threads create the same table at the same time,
+    // they create identical tables, and one of them is kept.
+    private val firstDaysOfYears = AtomicReferenceArray<IntArray>(CalculationMethod.values().size)
+
+    /**
+     * @param frenchYear a year in the French Revolutionary Calendar
+     *
+     * @return the epoch day of 1 Vendémiaire of the given year, or [NOT_SUPPORTED]
+     */
+    fun getFirstDayOfYear(calculationMethod: CalculationMethod, frenchYear: Int): Long {
+        if (frenchYear < TABLE_FIRST_YEAR || frenchYear > TABLE_LAST_YEAR) return computeFirstDayOfYear(calculationMethod, frenchYear)
+        return getFirstDaysOfYears(calculationMethod)[frenchYear - TABLE_FIRST_YEAR].toLong()
+    }
+
+    /**
+     * @param frenchYear a year in the French Revolutionary Calendar
+     *
+     * @return the number of days in the given year, 365 or 366, or [NOT_SUPPORTED]. With the equinox method, the length
+     *         of the last year of the table, [TABLE_LAST_YEAR], isn't supported: it needs the first day of the next year.
+     */
+    fun getDaysInYear(calculationMethod: CalculationMethod, frenchYear: Int): Long {
+        val firstDayOfYear = getFirstDayOfYear(calculationMethod, frenchYear)
+        if (firstDayOfYear == NOT_SUPPORTED) return NOT_SUPPORTED
+        val nextFirstDayOfYear = getFirstDayOfYear(calculationMethod, frenchYear + 1)
+        if (nextFirstDayOfYear == NOT_SUPPORTED) return NOT_SUPPORTED
+        return nextFirstDayOfYear - firstDayOfYear
+    }
+
+    private fun getFirstDaysOfYears(calculationMethod: CalculationMethod): IntArray {
+        val table = firstDaysOfYears[calculationMethod.ordinal]
+        if (table != null) return table
+        val newTable = IntArray(TABLE_LAST_YEAR - TABLE_FIRST_YEAR + 1) {
+            computeFirstDayOfYear(calculationMethod, TABLE_FIRST_YEAR + it).toInt()
+        }
+        firstDaysOfYears.compareAndSet(calculationMethod.ordinal, null, newTable)
+        return firstDaysOfYears[calculationMethod.ordinal]
+    }
+
+    private fun computeFirstDayOfYear(calculationMethod: CalculationMethod, frenchYear: Int): Long =
+            if (calculationMethod == CalculationMethod.EQUINOX || frenchYear in 1..19) getFirstDayOfYearEquinox(frenchYear)
+            else if (calculationMethod == CalculationMethod.ROMME) getFirstDayOfYearRomme(frenchYear)
+            else getFirstDayOfYearVonMadler(frenchYear)
+
+    /**
+     * @param epochDay the number of days since 1970-01-01
+     *
+     * @return the French year containing the given day, and the number of days since 1 Vendémiaire of that year
+     *         (starting from 0), packed into a long. Use [year] and [dayInYear] to read them.
+     *         Returns [NOT_SUPPORTED] if the day can't be converted.
+     */
+    fun getYearAndDay(calculationMethod: CalculationMethod, epochDay: Long): Long {
+        val table = getFirstDaysOfYears(calculationMethod)
+        // We don't know when the last year of the table ends, so we only use the table for the days before it begins.
+        if (epochDay < table[0] || epochDay >= table[table.size - 1]) return computeYearAndDay(calculationMethod, epochDay)
+        // Estimate the year with the average length of a Gregorian year, and adjust it. The lengths of the
+        // equinox years vary a little, and the estimate may be off by a year.
+        var index = Math.min(((epochDay - table[0]) * 400 / ROMME_DAYS_IN_400_YEARS).toInt(), table.size - 2)
+        while (table[index] > epochDay) index--
+        while (table[index + 1] <= epochDay) index++
+        return yearAndDay((TABLE_FIRST_YEAR + index).toLong(), epochDay - table[index])
+    }
+
+    private fun computeYearAndDay(calculationMethod: CalculationMethod, epochDay: Long): Long =
+            if (calculationMethod == CalculationMethod.EQUINOX || epochDay >= FRENCH_ERA_START && epochDay < FRENCH_ERA_END) getYearAndDayEquinox(epochDay)
+            else if (calculationMethod == CalculationMethod.ROMME) getYearAndDayRomme(epochDay)
+            else getYearAndDayVonMadler(epochDay)
+
+    fun year(yearAndDay: Long): Int = (yearAndDay shr 32).toInt()
+
+    fun dayInYear(yearAndDay: Long): Int = yearAndDay.toInt()
+
+    fun yearAndDay(frenchYear: Long, dayInYear: Long): Long = (frenchYear shl 32) or dayInYear
+
+    /**
+     * The French year begins on the day of the autumn equinox in Paris.
+     */
+    private fun getFirstDayOfYearEquinox(frenchYear: Int): Long {
+        val gregorianYear = GREGORIAN_YEAR_OF_FRENCH_YEAR_ZERO + frenchYear
+        val equinoxDay = EquinoxDates.getAutumnEquinox(gregorianYear)
+        if (equinoxDay == EquinoxDates.NOT_SUPPORTED) return NOT_SUPPORTED
+        return EpochDays.of(gregorianYear, 9, equinoxDay)
+    }
+
+    private fun getYearAndDayEquinox(epochDay: Long): Long {
+        // Case 1, date from September (the equinox) to December: the French year began this Gregorian year.
+        var frenchYear = EpochDays.yearOf(epochDay) - GREGORIAN_YEAR_OF_FRENCH_YEAR_ZERO
+        var firstDayOfYear = getFirstDayOfYearEquinox(frenchYear)
+        if (firstDayOfYear == NOT_SUPPORTED) return NOT_SUPPORTED
+        // Case 2, date from January to September (the equinox): the French year began last Gregorian year.
+        if (epochDay < firstDayOfYear) {
+            frenchYear--
+            firstDayOfYear = getFirstDayOfYearEquinox(frenchYear)
+            if (firstDayOfYear == NOT_SUPPORTED) return NOT_SUPPORTED
+        }
+        return yearAndDay(frenchYear.toLong(), epochDay - firstDayOfYear)
+    }
+
+    /**
+     * @return the number of days from 1 Vendémiaire of the year 20 to 1 Vendémiaire of the given year, using the Romme method.
+     */
+    private fun getDaysSinceRommeFirstYear(frenchYear: Int): Long =
+            getDaysSinceRommeYearOne(frenchYear) - getDaysSinceRommeYearOne(ROMME_FIRST_YEAR)
+
+    private fun getDaysSinceRommeYearOne(frenchYear: Int): Long {
+        val y = frenchYear - 1L
+        return 365 * y + floorDiv(y, 4) - floorDiv(y, 100) + floorDiv(y, 400)
+    }
+
+    private fun getFirstDayOfYearRomme(frenchYear: Int): Long =
+            ROMME_FIRST_YEAR_START + getDaysSinceRommeFirstYear(frenchYear)
+
+    private fun getYearAndDayRomme(epochDay: Long): Long {
+        // Find the year in cycles of 400, 100, 4, and 1 years, starting from the year 1 (a year following a leap year).
+        var days = epochDay - ROMME_FIRST_YEAR_START - getDaysSinceRommeFirstYear(1)
+        val cycles400 = floorDiv(days, ROMME_DAYS_IN_400_YEARS)
+        days -= cycles400 * ROMME_DAYS_IN_400_YEARS
+        // The last day of a 400 year cycle is the leap day of the 400th year.
+        val cycles100 = Math.min(days / ROMME_DAYS_IN_100_YEARS, 3)
+        days -= cycles100 * ROMME_DAYS_IN_100_YEARS
+        val cycles4 = days / ROMME_DAYS_IN_4_YEARS
+        days -= cycles4 * ROMME_DAYS_IN_4_YEARS
+        val years = Math.min(days / 365, 3)
+        days -= years * 365
+        return yearAndDay(1 + cycles400 * 400 + cycles100 * 100 + cycles4 * 4 + years, days)
+    }
+
+    /**
+     * @return the number of days from 1 Vendémiaire of the year 0 to 1 Vendémiaire of the given year,
+     *         using the von Mädler method.
+     */
+    private fun getDaysSinceVonMadlerYearZero(frenchYear: Long): Long =
+            365 * frenchYear + floorDiv(frenchYear - 1, 4) - floorDiv(frenchYear - 1, 128)
+
+    private fun getFirstDayOfYearVonMadler(frenchYear: Int): Long =
+            VON_MADLER_YEAR_ZERO_START + getDaysSinceVonMadlerYearZero(frenchYear.toLong())
+
+    private fun getYearAndDayVonMadler(epochDay: Long): Long {
+        val days = epochDay - VON_MADLER_YEAR_ZERO_START
+        // Estimate the year using the average length of a year, and adjust it if we're off by one.
+        var frenchYear = floorDiv(days * 128, VON_MADLER_DAYS_IN_128_YEARS)
+        while (getDaysSinceVonMadlerYearZero(frenchYear) > days) frenchYear--
+        while (getDaysSinceVonMadlerYearZero(frenchYear + 1) <= days) frenchYear++
+        return yearAndDay(frenchYear, days - getDaysSinceVonMadlerYearZero(frenchYear))
+    }
+}
@@ -21,7 +21,6 @@ package ca.rmen.lfrc.i18n
 
 import ca.rmen.lfrc.FrenchRevolutionaryCalendar
 
-import java.util.HashMap
 import java.util.Locale
 
 /**
@@ -71,27 +70,90 @@ internal abstract class FrenchRevolutionaryCalendarLabels internal constructor(p
         return dailyObjectTypes[type.ordinal]
     }
 
+    // The tries to parse the labels are only built if they're used, and can be read by any thread once they're built.
+
+    /**
+     * The weekday names, with the weekday from 1 to 10.
+     */
+    val weekdayTrie: LabelTrie by lazy(LazyThreadSafetyMode.PUBLICATION) {
+        LabelTrie.build(weekdays, IntArray(weekdays.size) { it + 1 })
+    }
+
+    /**
+     * The month names, with the month from 1 to 13.
+     */
+    val monthTrie: LabelTrie by lazy(LazyThreadSafetyMode.PUBLICATION) {
+        LabelTrie.build(months, IntArray(months.size) { it + 1 })
+    }
+
+    /**
+     * The names of the objects of the days, with the day in the year, from 1 to 366.
+     */
+    val dayOfYearTrie: LabelTrie by lazy(LazyThreadSafetyMode.PUBLICATION) {
+        val labels = ArrayList<String>()
+        val values = ArrayList<Int>()
+        for (month in daysOfYear.indices) {
+            for (day in daysOfYear[month].indices) {
+                labels.add(daysOfYear[month][day])
+                values.add(month * 30 + day + 1)
+            }
+        }
+        LabelTrie.build(labels.toTypedArray(), values.toIntArray())
+    }
+
+    /**
+     * The names of the types of objects of the days, with the ordinal of the [FrenchRevolutionaryCalendar.DailyObjectType].
+     */
+    val dailyObjectTypeTrie: LabelTrie by lazy(LazyThreadSafetyMode.PUBLICATION) {
+        LabelTrie.build(dailyObjectTypes, IntArray(dailyObjectTypes.size) { it })
+    }
+
     companion object {
 
-        private val instances = HashMap<String, FrenchRevolutionaryCalendarLabels>()
+        // The indexes of the supported languages in the instances array. Any other language uses the French labels.
+        private const val FR = 0
+        private const val EN = 1
+        private const val ES = 2
+        private const val CA = 3
+        private const val IT = 4
+        private const val DE = 5
+        private const val EU = 6
+
+        // The labels are immutable, and all their fields are final, so they can be read from this array without
+        // synchronization. If two threads create the labels for a language at the same time, one of them is discarded.
+        private val instances = arrayOfNulls<FrenchRevolutionaryCalendarLabels>(EU + 1)
 
         @JvmStatic
         fun getInstance(locale: Locale): FrenchRevolutionaryCalendarLabels {
-            val language = locale.language
-            var result: FrenchRevolutionaryCalendarLabels? = instances[language]
-            if (result != null) return result
-            when (language) {
-                Locale.ENGLISH.language -> result = FrenchRevolutionaryCalendarLabelsEN()
-                "es" -> result = FrenchRevolutionaryCalendarLabelsES()
-                "ca" -> result = FrenchRevolutionaryCalendarLabelsCA()
-                "it" -> result = FrenchRevolutionaryCalendarLabelsIT()
-                "de" -> result = FrenchRevolutionaryCalendarLabelsDE()
-                "eu" -> result = FrenchRevolutionaryCalendarLabelsEU()
-                else -> result = FrenchRevolutionaryCalendarLabelsFR()
+            val index = getLanguageIndex(locale.language)
+            var result = instances[index]
+            if (result == null) {
+                result = createInstance(index)
+                instances[index] = result
             }
-            instances.put(language, result)
             return result
-
         }
+
+        private fun getLanguageIndex(language: String): Int =
+                when (language) {
+                    "en" -> EN
+                    "es" -> ES
+                    "ca" -> CA
+                    "it" -> IT
+                    "de" -> DE
+                    "eu" -> EU
+                    else -> FR
+                }
+
+        private fun createInstance(index: Int): FrenchRevolutionaryCalendarLabels =
+                when (index) {
+                    EN -> FrenchRevolutionaryCalendarLabelsEN()
+                    ES -> FrenchRevolutionaryCalendarLabelsES()
+                    CA -> FrenchRevolutionaryCalendarLabelsCA()
+                    IT -> FrenchRevolutionaryCalendarLabelsIT()
+                    DE -> FrenchRevolutionaryCalendarLabelsDE()
+                    EU -> FrenchRevolutionaryCalendarLabelsEU()
+                    else -> FrenchRevolutionaryCalendarLabelsFR()
+                }
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.i18n
+
+import java.text.Normalizer
+
+/**
+ * A trie of labels, which finds the longest label at a position of a text, ignoring case and accents.
+ *
+ * The nodes are stored in arrays: each node has a first child and a next sibling, and the value of the label which
+ * ends at this node, if any. Instances are immutable once built, and can be shared between threads.
+ *
+ * @author calvarez
+ */
+internal class LabelTrie private constructor(
+        private val chars: CharArray,
+        private val firstChild: IntArray,
+        private val nextSibling: IntArray,
+        private val values: IntArray) {
+
+    companion object {
+
+        /**
+         * The value of a node where no label ends.
+         */
+        const val NO_VALUE = -1
+
+        /**
+         * The value of a label which is in the trie several times, with different values.
+         */
+        const val AMBIGUOUS = -2
+
+        private const val ROOT = 0
+        private const val NO_NODE = -1
+
+        // The folded characters of the characters up to the end of Latin Extended-A: lower case, without accents.
+        // Characters which fold to two characters, like œ, have the second one in the upper 16 bits.
+        private val FOLDED_CHARS = IntArray(0x180) { foldWithNormalizer(it.toChar()) }
+
+        private fun foldWithNormalizer(c: Char): Int {
+            when (c) {
+                'œ', 'Œ' -> return 'o'.toInt() or ('e'.toInt() shl 16)
+                'æ', 'Æ' -> return 'a'.toInt() or ('e'.toInt() shl 16)
+                'ß' -> return 's'.toInt() or ('s'.toInt() shl 16)
+                // The middle dot of the Catalan "l·l" is ignored.
+                '·' -> return 0
+            }
+            // The accents are separate characters after the decomposition: keep the base character.
+            val decomposed = Normalizer.normalize(c.toString(), Normalizer.Form.NFD)
+            return Character.toLowerCase(decomposed[0]).toInt()
+        }
+
+        /**
+         * @return the folded character of c: its lower case, without accents. A character which folds to two
+         *         characters has the second one in the upper 16 bits. A character which is ignored folds to 0.
+         */
+        fun fold(c: Char): Int = if (c.toInt() < FOLDED_CHARS.size) FOLDED_CHARS[c.toInt()] else Character.toLowerCase(c).toInt()
+
+        /**
+         * @return true if the text from start (inclusive) to end (exclusive) is the given label, ignoring case and accents
+         */
+        fun equalsIgnoreCaseAndAccents(text: CharSequence, start: Int, end: Int, label: String): Boolean =
+                fold(text.subSequence(start, end)) == fold(label)
+
+        private fun fold(text: CharSequence): String {
+            val result = StringBuilder(text.length)
+            for (c in text) {
+                val folded = fold(c)
+                if (folded != 0) result.append(folded.toChar())
+                if (folded ushr 16 != 0) result.append((folded ushr 16).toChar())
+            }
+            return result.toString()
+        }
+
+        /**
+         * @param labels the labels, which are found with the value at the same index
+         */
+        fun build(labels: Array<String>, labelValues: IntArray): LabelTrie {
+            val chars = StringBuilder().append('\u0000')
+            val firstChild = ArrayList<Int>()
+            val nextSibling = ArrayList<Int>()
+            val values = ArrayList<Int>()
+            firstChild.add(NO_NODE)
+            nextSibling.add(NO_NODE)
+            values.add(NO_VALUE)
+
+            fun getOrAddChild(node: Int, c: Char): Int {
+                var child = firstChild[node]
+                while (child != NO_NODE) {
+                    if (chars[child] == c) return child
+                    child = nextSibling[child]
+                }
+                val result = chars.length
+                chars.append(c)
+                firstChild.add(NO_NODE)
+                nextSibling.add(firstChild[node])
+                values.add(NO_VALUE)
+                firstChild[node] = result
+                return result
+            }
+
+            for (i in labels.indices) {
+                var node = ROOT
+                for (c in labels[i]) {
+                    val folded = fold(c)
+                    if (folded == 0) continue
+                    node = getOrAddChild(node, folded.toChar())
+                    if (folded ushr 16 != 0) node = getOrAddChild(node, (folded ushr 16).toChar())
+                }
+                values[node] = if (values[node] == NO_VALUE || values[node] == labelValues[i]) labelValues[i] else AMBIGUOUS
+            }
+            return LabelTrie(chars.toString().toCharArray(), firstChild.toIntArray(), nextSibling.toIntArray(), values.toIntArray())
+        }
+    }
+
+    /**
+     * Finds the longest label which starts at the given position of the text.
+     *
+     * @return the value of the label in the upper 32 bits, and the position after the label in the lower 32 bits,
+     *         or -1 if no label starts at this position. The value is [AMBIGUOUS] for a label with several values.
+     */
+    fun find(text: CharSequence, start: Int): Long {
+        var node = ROOT
+        var result = -1L
+        var position = start
+        while (position < text.length) {
+            val folded = fold(text[position])
+            if (folded != 0) {
+                node = getChild(node, folded.toChar())
+                if (node != NO_NODE && folded ushr 16 != 0) node = getChild(node, (folded ushr 16).toChar())
+                if (node == NO_NODE) break
+            }
+            position++
+            if (values[node] != NO_VALUE) result = (values[node].toLong() shl 32) or position.toLong()
+        }
+        return result
+    }
+
+    private fun getChild(node: Int, c: Char): Int {
+        var child = firstChild[node]
+        while (child != NO_NODE && chars[child] != c) child = nextSibling[child]
+        return child
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate that the decimal clock gives the same dates as the conversions of one date at a time.
+ */
+public class DecimalClockTest {
+
+    private static final String[] ZONE_IDS = {"UTC", "Europe/Paris", "America/Los_Angeles", "Asia/Kolkata", "Pacific/Apia"};
+
+    // 2010-01-01 to 2020-01-01
+    private static final long START_MILLIS = 1262304000000L;
+    private static final long END_MILLIS = 1577836800000L;
+    private static final long STEP_MILLIS = 7 * 60 * 1000L + 13 * 1000L + 17;
+
+    /**
+     * A clock which is at the time we set, so that the test can move it forward.
+     */
+    private static class SettableClock extends Clock {
+        private final ZoneId zone;
+        long millis;
+
+        SettableClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            SettableClock result = new SettableClock(zone);
+            result.millis = millis;
+            return result;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    @Test
+    public void testClockMatchesPackedDates() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (String zoneId : ZONE_IDS) {
+                TimeZone timeZone = TimeZone.getTimeZone(zoneId);
+                SettableClock clock = new SettableClock(ZoneId.of(zoneId));
+                DecimalClock decimalClock = new DecimalClock(frc, clock);
+                for (long millis = START_MILLIS; millis < END_MILLIS; millis += STEP_MILLIS) {
+                    clock.millis = millis;
+                    assertClockTime(frc, timeZone, decimalClock, millis);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testClockGoingBackwards() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
+        SettableClock clock = new SettableClock(ZoneId.of("Europe/Paris"));
+        DecimalClock decimalClock = new DecimalClock(frc, clock);
+        // Around the end of daylight saving time, on 2018-10-28 at 01:00 UTC, when the clocks go back.
+        for (long millis = 1540692000000L; millis > 1540684800000L; millis -= 60000L) {
+            clock.millis = millis;
+            assertClockTime(frc, timeZone, decimalClock, millis);
+        }
+    }
+
+    @Test
+    public void testDate() {
+        SettableClock clock = new SettableClock(ZoneId.of("Europe/Paris"));
+        // 2018-07-14 12:00:00 in Paris
+        clock.millis = 1531562400000L;
+        DecimalClock decimalClock = new DecimalClock(new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME), clock);
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 226, 10, 26, 5, 0, 0), decimalClock.getDate());
+        assertEquals(50000000, decimalClock.getDecimalTime());
+        // The same instant, in New York, is 06:00:00.
+        DecimalClock newYorkClock = decimalClock.withZone(ZoneId.of("America/New_York"));
+        assertEquals(ZoneId.of("America/New_York"), newYorkClock.getZone());
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 226, 10, 26, 2, 50, 0), newYorkClock.getDate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedDate() {
+        new DecimalClock(new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX),
+                Clock.fixed(Instant.ofEpochMilli(32503680000000L * 2), ZoneId.of("UTC"))).getPackedDate();
+    }
+
+    private static void assertClockTime(FrenchRevolutionaryCalendar frc, TimeZone timeZone, DecimalClock decimalClock, long millis) {
+        long packedDate = decimalClock.getPackedDate();
+        int decimalTime = FrenchRevolutionaryCalendarDecimalTime.ofEpochMillis(millis, timeZone);
+        long expected = frc.getPackedDate(millis, timeZone);
+        if (expected != packedDate) {
+            fail(timeZone.getID() + " " + millis + ": expected " + FrenchRevolutionaryCalendarPackedDate.toDate(expected, Locale.FRENCH)
+                    + " but got " + FrenchRevolutionaryCalendarPackedDate.toDate(packedDate, Locale.FRENCH));
+        }
+        if (decimalTime != decimalClock.getDecimalTime()) assertEquals(timeZone.getID() + " " + millis, decimalTime, decimalClock.getDecimalTime());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate the epoch day calculations against java.util.GregorianCalendar, and the French year calculations
+ * against each other.
+ */
+public class EpochDaysTest {
+
+    @Test
+    public void testEpochDaysMatchGregorianCalendar() {
+        GregorianCalendar cal = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        cal.clear();
+        cal.set(Calendar.ERA, GregorianCalendar.BC);
+        cal.set(1001, Calendar.JANUARY, 1);
+        long epochDay = cal.getTimeInMillis() / EpochDays.MILLIS_PER_DAY;
+        while (cal.get(Calendar.YEAR) < 3001 || cal.get(Calendar.ERA) == GregorianCalendar.BC) {
+            int year = cal.get(Calendar.ERA) == GregorianCalendar.BC ? 1 - cal.get(Calendar.YEAR) : cal.get(Calendar.YEAR);
+            int month = cal.get(Calendar.MONTH) + 1;
+            int dayOfMonth = cal.get(Calendar.DAY_OF_MONTH);
+            assertEquals("Wrong epoch day for " + year + "-" + month + "-" + dayOfMonth, epochDay, EpochDays.INSTANCE.of(year, month, dayOfMonth));
+
+            int date = EpochDays.INSTANCE.toDate(epochDay);
+            assertEquals("Wrong year for " + epochDay, year, EpochDays.INSTANCE.year(date));
+            assertEquals("Wrong month for " + epochDay, month, EpochDays.INSTANCE.month(date));
+            assertEquals("Wrong day for " + epochDay, dayOfMonth, EpochDays.INSTANCE.dayOfMonth(date));
+
+            cal.add(Calendar.DAY_OF_MONTH, 1);
+            epochDay++;
+        }
+    }
+
+    @Test
+    public void testFrenchYears() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            long previousFirstDayOfYear = FrenchYears.INSTANCE.getFirstDayOfYear(method, -2791);
+            for (int year = -2790; year <= 1209; year++) {
+                long firstDayOfYear = FrenchYears.INSTANCE.getFirstDayOfYear(method, year);
+                int yearLength = (int) (firstDayOfYear - previousFirstDayOfYear);
+                // Like GregorianCalendar, the equinox dates before 1582 are read as dates in the Julian calendar,
+                // which drifts from the equinox. The year containing the cutover of October 1582 is 10 days shorter.
+                if (method != CalculationMethod.EQUINOX || year > 1583 - 1791) {
+                    assertEquals("Wrong length for " + method + " year " + (year - 1), true, yearLength == 365 || yearLength == 366);
+                }
+
+                long yearAndDay = FrenchYears.INSTANCE.getYearAndDay(method, firstDayOfYear);
+                assertEquals(method + " year " + year, year, FrenchYears.INSTANCE.year(yearAndDay));
+                assertEquals(method + " year " + year, 0, FrenchYears.INSTANCE.dayInYear(yearAndDay));
+
+                yearAndDay = FrenchYears.INSTANCE.getYearAndDay(method, firstDayOfYear - 1);
+                assertEquals(method + " year " + year, year - 1, FrenchYears.INSTANCE.year(yearAndDay));
+                assertEquals(method + " year " + year, yearLength - 1, FrenchYears.INSTANCE.dayInYear(yearAndDay));
+                previousFirstDayOfYear = firstDayOfYear;
+            }
+        }
+    }
+
+    @Test
+    public void testFrenchYearsAroundTheTable() {
+        // Inside the table of the first days of the years, the year is looked up in the table. Outside of it,
+        // it's computed. The Romme and von Mädler years continue on both sides of the table.
+        for (CalculationMethod method : new CalculationMethod[]{CalculationMethod.ROMME, CalculationMethod.VON_MADLER}) {
+            int[] years = {FrenchYears.TABLE_FIRST_YEAR - 1, FrenchYears.TABLE_FIRST_YEAR, FrenchYears.TABLE_LAST_YEAR, FrenchYears.TABLE_LAST_YEAR + 1};
+            for (int year : years) {
+                long firstDayOfYear = FrenchYears.INSTANCE.getFirstDayOfYear(method, year);
+                long lastDayOfYear = FrenchYears.INSTANCE.getFirstDayOfYear(method, year + 1) - 1;
+                assertEquals(method + " " + year, FrenchYears.INSTANCE.yearAndDay(year, 0), FrenchYears.INSTANCE.getYearAndDay(method, firstDayOfYear));
+                assertEquals(method + " " + year, FrenchYears.INSTANCE.yearAndDay(year, lastDayOfYear - firstDayOfYear),
+                        FrenchYears.INSTANCE.getYearAndDay(method, lastDayOfYear));
+            }
+        }
+        long lastFirstDayOfYear = FrenchYears.INSTANCE.getFirstDayOfYear(CalculationMethod.EQUINOX, FrenchYears.TABLE_LAST_YEAR);
+        assertEquals(FrenchYears.INSTANCE.yearAndDay(FrenchYears.TABLE_LAST_YEAR, 100),
+                FrenchYears.INSTANCE.getYearAndDay(CalculationMethod.EQUINOX, lastFirstDayOfYear + 100));
+        assertEquals(FrenchYears.NOT_SUPPORTED, FrenchYears.INSTANCE.getYearAndDay(CalculationMethod.EQUINOX, lastFirstDayOfYear + 200));
+        long firstFirstDayOfYear = FrenchYears.INSTANCE.getFirstDayOfYear(CalculationMethod.EQUINOX, FrenchYears.TABLE_FIRST_YEAR);
+        assertEquals(FrenchYears.NOT_SUPPORTED, FrenchYears.INSTANCE.getYearAndDay(CalculationMethod.EQUINOX, firstFirstDayOfYear - 1));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate the table of equinox days against the moments of the equinoxes generated by AstroLib.
+ */
+public class EquinoxDatesTest {
+
+    @Test
+    public void testEquinoxDatesMatchAstroLib() throws IOException, ParseException {
+        int[] expectedEquinoxDates = readEquinoxDates();
+        for (int year = EquinoxDates.FIRST_YEAR; year <= EquinoxDates.LAST_YEAR; year++) {
+            assertEquals("Wrong equinox for " + year, expectedEquinoxDates[year - EquinoxDates.FIRST_YEAR],
+                    EquinoxDates.INSTANCE.getAutumnEquinox(year));
+        }
+    }
+
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        final int[] expectedEquinoxDates = readEquinoxDates();
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger errors = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            final int offset = i * 500;
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    // Each thread starts with a different year.
+                    for (int j = 0; j < expectedEquinoxDates.length; j++) {
+                        int index = (offset + j) % expectedEquinoxDates.length;
+                        if (EquinoxDates.INSTANCE.getAutumnEquinox(EquinoxDates.FIRST_YEAR + index) != expectedEquinoxDates[index]) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) thread.join();
+        assertEquals(0, errors.get());
+    }
+
+    @Test
+    public void testUnsupportedYears() {
+        assertEquals(EquinoxDates.NOT_SUPPORTED, EquinoxDates.INSTANCE.getAutumnEquinox(EquinoxDates.FIRST_YEAR - 1));
+        assertEquals(EquinoxDates.NOT_SUPPORTED, EquinoxDates.INSTANCE.getAutumnEquinox(EquinoxDates.LAST_YEAR + 1));
+        assertEquals(EquinoxDates.NOT_SUPPORTED, EquinoxDates.INSTANCE.getAutumnEquinox(Integer.MIN_VALUE));
+        assertEquals(EquinoxDates.NOT_SUPPORTED, EquinoxDates.INSTANCE.getAutumnEquinox(Integer.MAX_VALUE));
+    }
+
+    /**
+     * @return the day of the equinox in Paris, for each year, read from the AstroLib moments of the equinoxes.
+     */
+    private int[] readEquinoxDates() throws IOException, ParseException {
+        // Each line has the year, and the moment of the equinox of that year.
+        BufferedReader reader = new BufferedReader(new InputStreamReader(getClass().getResourceAsStream("equinoxes.txt"), "UTF-8"));
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        Calendar dateParis = Calendar.getInstance(TimeZone.getTimeZone("Europe/Paris"));
+        int[] result = new int[EquinoxDates.LAST_YEAR - EquinoxDates.FIRST_YEAR + 1];
+        int expectedYear = EquinoxDates.FIRST_YEAR;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                assertEquals(expectedYear, Integer.parseInt(line.substring(0, separator)));
+                dateParis.setTime(sdf.parse(line.substring(separator + 1)));
+                result[expectedYear - EquinoxDates.FIRST_YEAR] = dateParis.get(Calendar.DAY_OF_MONTH);
+                expectedYear++;
+            }
+        } finally {
+            reader.close();
+        }
+        assertEquals(EquinoxDates.LAST_YEAR + 1, expectedYear);
+        return result;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate the formatting and parsing of French dates with patterns.
+ */
+public class FrenchDateFormatterTest {
+
+    private static final String DEFAULT_PATTERN = "%E, %dd-%MMMM-%y, %H:%mm:%ss, %T:%DDDD";
+    private static final String ALL_TAGS = "%y|%MMMM|%MM|%M|%dd|%d|%H|%mm|%ss|%E|%W|%T|%DDDD";
+    private static final Locale[] LOCALES = {Locale.FRENCH, Locale.ENGLISH, new Locale("es"), new Locale("ca"),
+            Locale.ITALIAN, Locale.GERMAN, new Locale("eu")};
+
+    @Test
+    public void testTags() {
+        FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.ENGLISH, 219, 10, 20, 4, 79, 5);
+        assertEquals("Décadi, 20-Messidor-219, 4:79:05, The tool:Pen", FrenchDateFormatter.ofPattern(DEFAULT_PATTERN).format(date));
+        assertEquals("219|Messidor|10|10|20|20|4|79|05|Décadi|2|The tool|Pen", FrenchDateFormatter.ofPattern(ALL_TAGS).format(date));
+        date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, -3, 1, 2, 0, 8, 3);
+        assertEquals("-3|Vendémiaire|01|1|02|2|0|08|03|Duodi|1|La plante|Safran", FrenchDateFormatter.ofPattern(ALL_TAGS).format(date));
+    }
+
+    @Test
+    public void testLiterals() {
+        FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 219, 9, 2, 4, 79, 5);
+        assertEquals("", FrenchDateFormatter.ofPattern("").format(date));
+        assertEquals("no tags", FrenchDateFormatter.ofPattern("no tags").format(date));
+        assertEquals("% %% %x %m %s 100%", FrenchDateFormatter.ofPattern("% %% %x %m %s 100%").format(date));
+        // The longest tag wins.
+        assertEquals("09M 02d Prairial%", FrenchDateFormatter.ofPattern("%MMM %ddd %MMMM%").format(date));
+        assertEquals("%9", FrenchDateFormatter.ofPattern("%%M").format(date));
+    }
+
+    @Test
+    public void testSameAsReplaceAll() {
+        FrenchDateFormatter defaultFormatter = FrenchDateFormatter.ofPattern(DEFAULT_PATTERN);
+        FrenchDateFormatter allTagsFormatter = FrenchDateFormatter.ofPattern(ALL_TAGS);
+        for (Locale locale : LOCALES) {
+            for (int month = 1; month <= 13; month++) {
+                for (int dayOfMonth = 1; dayOfMonth <= (month == 13 ? 6 : 30); dayOfMonth++) {
+                    FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(locale, 225, month, dayOfMonth, dayOfMonth % 10, dayOfMonth * 3, 99 - dayOfMonth);
+                    assertEquals(formatWithReplaceAll(date, DEFAULT_PATTERN), defaultFormatter.format(date));
+                    assertEquals(formatWithReplaceAll(date, ALL_TAGS), allTagsFormatter.format(date));
+                    long packedDate = FrenchRevolutionaryCalendarPackedDate.of(date);
+                    assertEquals(formatWithReplaceAll(date, ALL_TAGS), allTagsFormatter.format(packedDate, locale));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatToWriter() {
+        FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, -2147483648, 1, 2, 0, 8, 3);
+        StringWriter writer = new StringWriter();
+        FrenchDateFormatter formatter = FrenchDateFormatter.ofPattern("%y/%M/%d %H:%mm:%ss %W");
+        formatter.formatTo(date, writer);
+        writer.write('\n');
+        formatter.formatTo(FrenchRevolutionaryCalendarPackedDate.of(1209, 12, 30, 9, 99, 99), Locale.FRENCH, writer);
+        assertEquals("-2147483648/1/2 0:08:03 1\n1209/12/30 9:99:99 3", writer.toString());
+        assertEquals("%y/%M/%d %H:%mm:%ss %W", formatter.getPattern());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testFormatToFailingWriter() {
+        Writer writer = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("Closed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        FrenchDateFormatter.ofPattern(DEFAULT_PATTERN).formatTo(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 1, 1, 1, 0, 0, 0), writer);
+    }
+
+    @Test
+    public void testParse() throws ParseException {
+        FrenchDateFormatter formatter = FrenchDateFormatter.ofPattern("%E, %dd-%MMMM-%y");
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 220, 1, 1, 0, 0, 0), formatter.parse("Primidi, 01-Vendémiaire-220", Locale.FRENCH));
+        // Case and accents are ignored.
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 220, 1, 1, 0, 0, 0), formatter.parse("PRIMIDI, 01-vendemiaire-220", Locale.FRENCH));
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.ITALIAN, -5, 13, 6, 0, 0, 0), formatter.parse("Sestidi, 06-Sanculottidi--5", Locale.ITALIAN));
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 3, 1, 25, 0, 0, 0),
+                FrenchDateFormatter.ofPattern("%DDDD %y").parse("boeuf 3", Locale.FRENCH));
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.ENGLISH, 219, 10, 20, 4, 79, 51),
+                FrenchDateFormatter.ofPattern("%E, %dd-%MMMM-%y, %H:%mm:%ss, %T:%DDDD").parse("Décadi, 20-Messidor-219, 4:79:51, The tool:Pen", Locale.ENGLISH));
+        // Turnip is the name of two days: the month tells which one it is.
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.ENGLISH, 205, 3, 2, 0, 0, 0),
+                FrenchDateFormatter.ofPattern("%DDDD %MMMM %y").parse("turnip frimaire 205", Locale.ENGLISH));
+        // The day of the month from the weekday and the week.
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 1, 2, 23, 0, 0, 0),
+                FrenchDateFormatter.ofPattern("%E (%W) %MMMM %y").parse("Tridi (3) Brumaire 1", Locale.FRENCH));
+    }
+
+    @Test
+    public void testParsePackedDate() throws ParseException {
+        FrenchDateFormatter formatter = FrenchDateFormatter.ofPattern("%y-%MM-%ddT%H:%mm:%ss");
+        assertEquals(FrenchRevolutionaryCalendarPackedDate.of(233, 1, 27, 5, 12, 34), formatter.parsePackedDate("233-01-27T5:12:34", Locale.FRENCH));
+        assertEquals(FrenchRevolutionaryCalendarPackedDate.of(-2791, 13, 6, 9, 99, 99), formatter.parsePackedDate("-2791-13-06T9:99:99", Locale.FRENCH));
+    }
+
+    @Test
+    public void testParseFormattedDates() throws ParseException {
+        FrenchDateFormatter defaultFormatter = FrenchDateFormatter.ofPattern(DEFAULT_PATTERN);
+        FrenchDateFormatter allTagsFormatter = FrenchDateFormatter.ofPattern(ALL_TAGS);
+        // Some objects of the day have the same name on different days in some languages: the month and the week tell which one it is.
+        FrenchDateFormatter namesFormatter = FrenchDateFormatter.ofPattern("%E %DDDD (%MMMM, %W) %y");
+        for (Locale locale : LOCALES) {
+            for (int month = 1; month <= 13; month++) {
+                for (int dayOfMonth = 1; dayOfMonth <= (month == 13 ? 6 : 30); dayOfMonth++) {
+                    FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(locale, 225 - month * 20, month, dayOfMonth, dayOfMonth % 10, dayOfMonth * 3, 99 - dayOfMonth);
+                    assertEquals(date, defaultFormatter.parse(defaultFormatter.format(date), locale));
+                    assertEquals(date, allTagsFormatter.parse(allTagsFormatter.format(date), locale));
+                    FrenchRevolutionaryCalendarDate midnight = new FrenchRevolutionaryCalendarDate(locale, date.year, month, dayOfMonth, 0, 0, 0);
+                    assertEquals(midnight, namesFormatter.parse(namesFormatter.format(date), locale));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidDates() {
+        FrenchDateFormatter formatter = FrenchDateFormatter.ofPattern("%E, %dd-%MMMM-%y");
+        assertParseException(formatter, "Primidi, 01-Vendémiaire", 23);
+        assertParseException(formatter, "Primidi, 01-Vendémiaire-220 ", 27);
+        assertParseException(formatter, "Primidi, 1-Vendémiaire-220", 9);
+        assertParseException(formatter, "Primidi; 01-Vendémiaire-220", 7);
+        assertParseException(formatter, "Primidi, 01-Janvier-220", 12);
+        // The weekday doesn't match the day.
+        assertParseException(formatter, "Duodi, 01-Vendémiaire-220", 0);
+        assertParseException(FrenchDateFormatter.ofPattern("%d %M %y"), "7 14 220", 0);
+        assertParseException(FrenchDateFormatter.ofPattern("%d %M %y"), "7 13 220", 0);
+        assertParseException(FrenchDateFormatter.ofPattern("%d %M %y %H"), "7 12 220 10", 0);
+        assertParseException(FrenchDateFormatter.ofPattern("%d %M"), "7 12", 0);
+        assertParseException(FrenchDateFormatter.ofPattern("%d %M %y %M"), "7 12 220 11", 9);
+        assertParseException(FrenchDateFormatter.ofPattern("%dd %M %y %DDDD"), "20 10 219 Flax", 0);
+        // Turnip is 23 Vendémiaire and 2 Frimaire, and Lettuce is 16 and 22 Germinal.
+        assertParseException(FrenchDateFormatter.ofPattern("%DDDD %y"), "Turnip 205", 0);
+        assertParseException(FrenchDateFormatter.ofPattern("%DDDD %MMMM %y"), "Turnip Brumaire 205", 0);
+        assertParseException(FrenchDateFormatter.ofPattern("%DDDD %MMMM %y"), "Lettuce Germinal 205", 0);
+    }
+
+    private static void assertParseException(FrenchDateFormatter formatter, String text, int expectedErrorOffset) {
+        try {
+            formatter.parse(text, Locale.ENGLISH);
+            fail("Expected a ParseException for " + text);
+        } catch (ParseException e) {
+            assertEquals(text, expectedErrorOffset, e.getErrorOffset());
+        }
+    }
+
+    /**
+     * The way dates used to be formatted by the command-line program.
+     */
+    private static String formatWithReplaceAll(FrenchRevolutionaryCalendarDate frenchDate, String outputFormat) {
+        String result = outputFormat;
+        result = result.replaceAll("%y", String.format("%d", frenchDate.year));
+        result = result.replaceAll("%MMMM", frenchDate.getMonthName());
+        result = result.replaceAll("%MM", String.format("%02d", frenchDate.month));
+        result = result.replaceAll("%M", String.format("%d", frenchDate.month));
+        result = result.replaceAll("%dd", String.format("%02d", frenchDate.dayOfMonth));
+        result = result.replaceAll("%d", String.format("%d", frenchDate.dayOfMonth));
+        result = result.replaceAll("%H", String.format("%d", frenchDate.hour));
+        result = result.replaceAll("%mm", String.format("%02d", frenchDate.minute));
+        result = result.replaceAll("%ss", String.format("%02d", frenchDate.second));
+        result = result.replaceAll("%E", frenchDate.getWeekdayName());
+        result = result.replaceAll("%W", String.format("%d", frenchDate.getWeekInMonth()));
+        result = result.replaceAll("%T", frenchDate.getObjectTypeName());
+        result = result.replaceAll("%DDDD", frenchDate.getObjectOfTheDay());
+        return result;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate the canonical text of French dates.
+ */
+public class FrenchDateTextTest {
+
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    @Test
+    public void testToText() {
+        assertEquals("0233-01-27T5:12:34", FrenchDateText.toText(FrenchRevolutionaryCalendarPackedDate.of(233, 1, 27, 5, 12, 34)));
+        assertEquals("0001-13-06T0:00:00", FrenchDateText.toText(FrenchRevolutionaryCalendarPackedDate.of(1, 13, 6, 0, 0, 0)));
+        assertEquals("0000-01-01T9:99:99", FrenchDateText.toText(FrenchRevolutionaryCalendarPackedDate.of(0, 1, 1, 9, 99, 99)));
+        assertEquals("-0001-12-30T1:02:03", FrenchDateText.toText(FrenchRevolutionaryCalendarPackedDate.of(-1, 12, 30, 1, 2, 3)));
+        assertEquals("-2791-07-30T1:02:03", FrenchDateText.toText(FrenchRevolutionaryCalendarPackedDate.of(-2791, 7, 30, 1, 2, 3)));
+        assertEquals("12345-02-03T4:05:06", FrenchDateText.toText(FrenchRevolutionaryCalendarPackedDate.of(12345, 2, 3, 4, 5, 6)));
+        assertEquals("-2147483648-02-03T4:05:06",
+                FrenchDateText.toText(FrenchRevolutionaryCalendarPackedDate.of(Integer.MIN_VALUE, 2, 3, 4, 5, 6)));
+        assertEquals("0226-10-26T5:00:00", FrenchDateText.toText(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 226, 10, 26, 5, 0, 0)));
+    }
+
+    @Test
+    public void testWriteText() {
+        long packedDate = FrenchRevolutionaryCalendarPackedDate.of(-233, 1, 27, 5, 12, 34);
+        byte[] buffer = new byte[FrenchDateText.MAX_LENGTH + 3];
+        int end = FrenchDateText.writeText(packedDate, buffer, 3);
+        assertEquals("-0233-01-27T5:12:34", new String(buffer, 3, end - 3, US_ASCII));
+        StringBuilder output = new StringBuilder("date=");
+        assertEquals("date=-0233-01-27T5:12:34", FrenchDateText.appendText(packedDate, output).toString());
+    }
+
+    @Test
+    public void testRoundTrip() throws ParseException {
+        byte[] buffer = new byte[FrenchDateText.MAX_LENGTH];
+        for (int year = -10000; year <= 10000; year += 7) {
+            for (int month = 1; month <= 13; month++) {
+                for (int dayOfMonth = 1; dayOfMonth <= (month == 13 ? 6 : 30); dayOfMonth++) {
+                    long packedDate = FrenchRevolutionaryCalendarPackedDate.of(year, month, dayOfMonth,
+                            dayOfMonth % 10, (year & 0xffff) % 100, (month * dayOfMonth) % 100);
+                    String text = FrenchDateText.toText(packedDate);
+                    assertEquals(text, packedDate, FrenchDateText.parsePackedDate(text));
+                    int length = FrenchDateText.writeText(packedDate, buffer, 0);
+                    assertEquals(text, packedDate, FrenchDateText.parsePackedDate(buffer, 0, length));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTripEverySecondOfDay() throws ParseException {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        byte[] buffer = new byte[FrenchDateText.MAX_LENGTH];
+        // 2020-01-01
+        long epochDay = 18262;
+        for (int secondOfDay = 0; secondOfDay < 86400; secondOfDay++) {
+            long packedDate = frc.getPackedDate(epochDay, secondOfDay);
+            String text = FrenchDateText.toText(packedDate);
+            assertEquals(text, packedDate, FrenchDateText.parsePackedDate(text));
+            int length = FrenchDateText.writeText(packedDate, buffer, 0);
+            assertEquals(text, packedDate, FrenchDateText.parsePackedDate(buffer, 0, length));
+        }
+    }
+
+    @Test
+    public void testParse() throws ParseException {
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 233, 1, 27, 5, 12, 34),
+                FrenchDateText.parse("0233-01-27T5:12:34", Locale.FRENCH));
+        assertEquals(FrenchRevolutionaryCalendarPackedDate.of(-2791, 7, 30, 1, 2, 3),
+                FrenchDateText.parsePackedDate("key=-2791-07-30T1:02:03;", 4, 23));
+        byte[] input = "key=123456789-13-06T9:99:99".getBytes(US_ASCII);
+        assertEquals(FrenchRevolutionaryCalendarPackedDate.of(123456789, 13, 6, 9, 99, 99),
+                FrenchDateText.parsePackedDate(input, 4, input.length - 4));
+        assertEquals(FrenchRevolutionaryCalendarPackedDate.of(1234567890, 1, 1, 5, 12, 34),
+                FrenchDateText.parsePackedDate("1234567890-01-01T5:12:34"));
+    }
+
+    @Test
+    public void testRoundTripLimits() throws ParseException {
+        byte[] buffer = new byte[FrenchDateText.MAX_LENGTH];
+        int[] years = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1000000000, 999999999, 1000000000, Integer.MAX_VALUE};
+        for (int year : years) {
+            long packedDate = FrenchRevolutionaryCalendarPackedDate.of(year, 13, 6, 9, 99, 99);
+            String text = FrenchDateText.toText(packedDate);
+            assertEquals(text, packedDate, FrenchDateText.parsePackedDate(text));
+            int length = FrenchDateText.writeText(packedDate, buffer, 0);
+            assertEquals(text, packedDate, FrenchDateText.parsePackedDate(buffer, 0, length));
+        }
+    }
+
+    @Test
+    public void testInvalidText() {
+        assertParseException("", 0);
+        assertParseException("233-01-27T5:12:34", 0);
+        assertParseException("00233-01-27T5:12:34", 0);
+        assertParseException("-0000-01-27T5:12:34", 1);
+        assertParseException("+0233-01-27T5:12:34", 0);
+        assertParseException("0233-01-27T5:12:34Z", 4);
+        assertParseException("0233-01-27 5:12:34", 4);
+        assertParseException("0233-1-27T05:12:34", 4);
+        assertParseException("0233-0a-27T5:12:34", 5);
+        assertParseException("0233-01-27Tx:12:34", 11);
+        assertParseException("0233-00-27T5:12:34", 5);
+        assertParseException("0233-14-01T5:12:34", 5);
+        assertParseException("0233-13-07T5:12:34", 8);
+        assertParseException("0233-01-31T5:12:34", 8);
+        assertParseException("0233-01-00T5:12:34", 8);
+        assertParseException("2147483648-01-01T5:12:34", 0);
+        assertParseException("-2147483649-01-01T5:12:34", 1);
+        assertParseException("9999999999-01-01T5:12:34", 0);
+        assertParseException("12345678901-01-01T5:12:34", 10);
+    }
+
+    private static void assertParseException(String text, int errorOffset) {
+        try {
+            FrenchDateText.parsePackedDate(text);
+            fail("Expected a ParseException for " + text);
+        } catch (ParseException e) {
+            assertEquals(text, errorOffset, e.getErrorOffset());
+        }
+    }
+}
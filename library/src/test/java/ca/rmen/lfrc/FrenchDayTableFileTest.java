@@ -0,0 +1,171 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate the files of tables of French dates.
+ */
+public class FrenchDayTableFileTest {
+
+    private static final LocalDate TABLE_START_DATE = LocalDate.of(1792, 1, 1);
+    private static final LocalDate TABLE_END_DATE = LocalDate.of(2300, 1, 1);
+    private static final int HEADER_SIZE = 32;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDayTableFileMatchesComputedDates() throws IOException {
+        File file = folder.newFile();
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_END_DATE);
+        int dayCount = (int) (TABLE_END_DATE.toEpochDay() - TABLE_START_DATE.toEpochDay());
+        assertEquals(HEADER_SIZE + 3 * 4 * dayCount, file.length());
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            FrenchRevolutionaryCalendar frcWithTable = frc.withDayTable(file);
+            for (LocalDate date = TABLE_START_DATE.minusDays(100); date.isBefore(TABLE_END_DATE.plusDays(100)); date = date.plusDays(1)) {
+                FrenchRevolutionaryCalendarDate expected = frc.getDate(date);
+                FrenchRevolutionaryCalendarDate actual = frcWithTable.getDate(date);
+                if (!expected.equals(actual)) assertEquals(method + " " + date, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testRewriteMappedFile() throws IOException {
+        File file = folder.newFile();
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_END_DATE);
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME).withDayTable(file);
+        // The new file replaces the old one, which stays mapped until it's not used anymore.
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_START_DATE.plusDays(10));
+        assertEquals(new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME).getDate(TABLE_END_DATE.minusDays(1)),
+                frc.getDate(TABLE_END_DATE.minusDays(1)));
+        assertEquals(HEADER_SIZE + 3 * 4 * 10, file.length());
+        // The temporary files were renamed.
+        assertEquals(1, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void testEmptyDayTableFile() throws IOException {
+        File file = folder.newFile();
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_START_DATE);
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        assertEquals(frc.getDate(TABLE_START_DATE), frc.withDayTable(file).getDate(TABLE_START_DATE));
+    }
+
+    @Test
+    public void testInvalidFiles() throws IOException {
+        File file = folder.newFile();
+        assertInvalid(file);
+
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_START_DATE.plusDays(1000));
+        // Not a table file
+        writeInt(file, 0, 0x12345678);
+        assertInvalid(file);
+
+        // Another version
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_START_DATE.plusDays(1000));
+        writeInt(file, 4, FrenchDayTableFile.VERSION + 1);
+        assertInvalid(file);
+
+        // Truncated
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_START_DATE.plusDays(1000));
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(raf.length() - 4);
+        } finally {
+            raf.close();
+        }
+        assertInvalid(file);
+    }
+
+    @Test
+    public void testStaleFile() throws IOException {
+        File file = folder.newFile();
+        FrenchDayTableFile.write(file, TABLE_START_DATE, TABLE_START_DATE.plusDays(1000));
+        long fingerprint = readLong(file, 24);
+
+        // Another version of the rules
+        writeLong(file, 24, fingerprint + (1L << 32));
+        assertInvalid(file);
+
+        // Other equinox dates
+        writeLong(file, 24, fingerprint ^ 1);
+        assertInvalid(file);
+
+        writeLong(file, 24, fingerprint);
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX).withDayTable(file);
+    }
+
+    private static void assertInvalid(File file) {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            try {
+                new FrenchRevolutionaryCalendar(Locale.FRENCH, method).withDayTable(file);
+                fail("Expected an IOException for " + method);
+            } catch (IOException e) {
+                // expected
+            }
+        }
+    }
+
+    private static long readLong(File file, long position) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            raf.seek(position);
+            return raf.readLong();
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static void writeLong(File file, long position, long value) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(position);
+            raf.writeLong(value);
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static void writeInt(File file, long position, int value) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(position);
+            raf.writeInt(value);
+        } finally {
+            raf.close();
+        }
+    }
+}
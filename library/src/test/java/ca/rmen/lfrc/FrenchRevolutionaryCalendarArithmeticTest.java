@@ -0,0 +1,138 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate the addition of days, décades, months, and years to French dates.
+ */
+public class FrenchRevolutionaryCalendarArithmeticTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(1750, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2300, 1, 1);
+    private static final long[] OFFSETS = {-1000, -366, -365, -17, -1, 0, 1, 5, 6, 17, 365, 366, 1000, 100000};
+
+    @Test
+    public void testPlusDaysMatchesGregorianDates() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (LocalDate date = START_DATE; date.isBefore(END_DATE); date = date.plusDays(1)) {
+                FrenchRevolutionaryCalendarDate frenchDate = frc.getDate(date);
+                for (long offset : OFFSETS) {
+                    FrenchRevolutionaryCalendarDate expected = frc.getDate(date.plusDays(offset));
+                    FrenchRevolutionaryCalendarDate actual = frc.plusDays(frenchDate, offset);
+                    if (!expected.equals(actual)) assertEquals(method + " " + date + " + " + offset, expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPlusDaysKeepsTheTime() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 226, 1, 12, 3, 45, 67),
+                frc.plusDays(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 12, 30, 3, 45, 67), 17));
+    }
+
+    @Test
+    public void testPlusDecades() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 1, 1, 0, 0, 0);
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 2, 11, 0, 0, 0), frc.plusDecades(date, 4));
+        assertEquals(frc.plusDays(date, -360), frc.plusDecades(date, -36));
+    }
+
+    @Test
+    public void testPlusMonths() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 11, 30, 1, 2, 3);
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 12, 30, 1, 2, 3), frc.plusMonths(date, 1));
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 226, 1, 30, 1, 2, 3), frc.plusMonths(date, 3));
+        // 224 is a sextile year, 223 isn't.
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 224, 13, 6, 1, 2, 3), frc.plusMonths(date, -11));
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 223, 13, 5, 1, 2, 3), frc.plusMonths(date, -24));
+        assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, -1, 11, 30, 1, 2, 3), frc.plusMonths(date, -226 * 13));
+        assertEquals(date, frc.plusMonths(date, 0));
+    }
+
+    @Test
+    public void testPlusMonthsIntoComplementaryDays() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (int year = -10; year < 500; year++) {
+                int complementaryDays = getDaysInYear(frc, year) - 360;
+                FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year, 12, 30, 0, 0, 0);
+                assertEquals(method + " " + year, new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year, 13, complementaryDays, 0, 0, 0),
+                        frc.plusMonths(date, 1));
+                date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year, 12, 4, 0, 0, 0);
+                assertEquals(method + " " + year, new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year, 13, 4, 0, 0, 0),
+                        frc.plusMonths(date, 1));
+            }
+        }
+    }
+
+    @Test
+    public void testPlusYears() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (int year = -10; year < 500; year++) {
+                if (getDaysInYear(frc, year) != 366) continue;
+                FrenchRevolutionaryCalendarDate lastDay = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year, 13, 6, 7, 8, 9);
+                for (int years = -5; years <= 5; years++) {
+                    int complementaryDays = getDaysInYear(frc, year + years) - 360;
+                    assertEquals(method + " " + year + " + " + years,
+                            new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year + years, 13, complementaryDays, 7, 8, 9),
+                            frc.plusYears(lastDay, years));
+                }
+            }
+            FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 4, 12, 0, 0, 0);
+            assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 5225, 4, 12, 0, 0, 0), frc.plusYears(date, 5000));
+            assertEquals(frc.plusMonths(date, 13 * -300), frc.plusYears(date, -300));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPlusDaysUnsupported() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX)
+                .plusDays(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 1, 1, 0, 0, 0), 365 * 2000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPlusYearsUnsupported() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX)
+                .plusYears(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 224, 13, 6, 0, 0, 0), 5000);
+    }
+
+    /**
+     * @return the number of days in the given French year, from the Gregorian dates of the first days of the years.
+     */
+    private static int getDaysInYear(FrenchRevolutionaryCalendar frc, int year) {
+        LocalDate firstDay = frc.getLocalDateTime(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year, 1, 1, 0, 0, 0)).toLocalDate();
+        LocalDate nextFirstDay = frc.getLocalDateTime(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, year + 1, 1, 1, 0, 0, 0)).toLocalDate();
+        return (int) (nextFirstDay.toEpochDay() - firstDay.toEpochDay());
+    }
+}
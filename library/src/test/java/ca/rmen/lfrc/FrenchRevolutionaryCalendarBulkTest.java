@@ -0,0 +1,233 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate that the bulk conversions give the same results as the conversions of one date at a time.
+ */
+public class FrenchRevolutionaryCalendarBulkTest {
+
+    private static final String[] ZONE_IDS = {"UTC", "Europe/Paris", "America/Los_Angeles", "Asia/Kolkata", "Pacific/Apia"};
+
+    // 1792-01-01 to 2300-01-01
+    private static final long START_MILLIS = -5585644800000L;
+    private static final long END_MILLIS = 10413792000000L;
+    // 1900-01-02
+    private static final long TIME_ZONE_START_MILLIS = -2208902400000L;
+
+    // Every 15 minutes from 2018-03-24 to 2018-03-27, and from 2018-10-27 to 2018-10-30, around the transitions to and
+    // from daylight saving time in Europe.
+    private static final long[] DST_RANGES = {1521849600000L, 1522108800000L, 1540598400000L, 1540857600000L};
+    private static final long DST_STEP_MILLIS = 15 * 60 * 1000L;
+
+    @Test
+    public void testSortedDates() {
+        testBulkConversions(createSortedDates());
+    }
+
+    @Test
+    public void testShuffledDates() {
+        long[] epochMillis = createSortedDates();
+        Random random = new Random(1792);
+        for (int i = epochMillis.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = epochMillis[i];
+            epochMillis[i] = epochMillis[j];
+            epochMillis[j] = tmp;
+        }
+        testBulkConversions(epochMillis);
+    }
+
+    @Test
+    public void testEmptyArrays() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        frc.convert(new long[0], ZoneId.of("UTC"), new int[0], new byte[0], new byte[0]);
+        frc.convert(new int[0], new byte[0], new byte[0], ZoneId.of("UTC"), new long[0]);
+        frc.getPackedDates(new long[0], ZoneId.of("UTC"), new long[0]);
+        frc.getEpochMillis(new long[0], ZoneId.of("UTC"), new long[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutputArrayTooShort() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME)
+                .convert(new long[2], ZoneId.of("UTC"), new int[2], new byte[1], new byte[2]);
+    }
+
+    @Test
+    public void testUnsupportedDate() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX);
+        long[] epochMillis = {0, 32503680000000L * 2, 0};
+        long[] packedDates = new long[epochMillis.length];
+        try {
+            frc.getPackedDates(epochMillis, ZoneId.of("UTC"), packedDates);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // The dates before the unsupported date are converted.
+            assertEquals(frc.getPackedDate(0, TimeZone.getTimeZone("UTC")), packedDates[0]);
+            assertEquals(0, packedDates[2]);
+        }
+    }
+
+    @Test
+    public void testParallelSortedDates() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            testParallelConversions(createSortedDates(), pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelShuffledDates() {
+        long[] epochMillis = createSortedDates();
+        Random random = new Random(1793);
+        for (int i = epochMillis.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = epochMillis[i];
+            epochMillis[i] = epochMillis[j];
+            epochMillis[j] = tmp;
+        }
+        testParallelConversions(epochMillis, ForkJoinPool.commonPool());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelUnsupportedDate() {
+        long[] epochMillis = createSortedDates();
+        epochMillis[epochMillis.length / 3] = 32503680000000L * 2;
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX)
+                .parallelGetPackedDates(epochMillis, ZoneId.of("UTC"), new long[epochMillis.length]);
+    }
+
+    /**
+     * Validate that the parallel conversions give the same results as the sequential ones.
+     */
+    private void testParallelConversions(long[] epochMillis, ForkJoinPool pool) {
+        int length = epochMillis.length;
+        int[] years = new int[length];
+        byte[] months = new byte[length];
+        byte[] days = new byte[length];
+        long[] packedDates = new long[length];
+        long[] reverseEpochMillis = new long[length];
+        long[] reverseMidnightEpochMillis = new long[length];
+        int[] parallelYears = new int[length];
+        byte[] parallelMonths = new byte[length];
+        byte[] parallelDays = new byte[length];
+        long[] parallelPackedDates = new long[length];
+        long[] parallelReverseEpochMillis = new long[length];
+        long[] parallelReverseMidnightEpochMillis = new long[length];
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (String zoneIdStr : ZONE_IDS) {
+                ZoneId zoneId = ZoneId.of(zoneIdStr);
+                frc.convert(epochMillis, zoneId, years, months, days);
+                frc.getPackedDates(epochMillis, zoneId, packedDates);
+                frc.getEpochMillis(packedDates, zoneId, reverseEpochMillis);
+                frc.convert(years, months, days, zoneId, reverseMidnightEpochMillis);
+                frc.parallelConvert(epochMillis, zoneId, parallelYears, parallelMonths, parallelDays, pool);
+                frc.parallelGetPackedDates(epochMillis, zoneId, parallelPackedDates, pool);
+                frc.parallelGetEpochMillis(packedDates, zoneId, parallelReverseEpochMillis, pool);
+                frc.parallelConvert(years, months, days, zoneId, parallelReverseMidnightEpochMillis, pool);
+                String message = method + " " + zoneId;
+                assertArrayEquals(message, years, parallelYears);
+                assertArrayEquals(message, months, parallelMonths);
+                assertArrayEquals(message, days, parallelDays);
+                assertArrayEquals(message, packedDates, parallelPackedDates);
+                assertArrayEquals(message, reverseEpochMillis, parallelReverseEpochMillis);
+                assertArrayEquals(message, reverseMidnightEpochMillis, parallelReverseMidnightEpochMillis);
+            }
+        }
+    }
+
+    private void testBulkConversions(long[] epochMillis) {
+        int length = epochMillis.length;
+        int[] years = new int[length];
+        byte[] months = new byte[length];
+        byte[] days = new byte[length];
+        long[] packedDates = new long[length];
+        long[] reverseEpochMillis = new long[length];
+        long[] reverseMidnightEpochMillis = new long[length];
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (String zoneIdStr : ZONE_IDS) {
+                ZoneId zoneId = ZoneId.of(zoneIdStr);
+                TimeZone timeZone = TimeZone.getTimeZone(zoneId);
+                frc.convert(epochMillis, zoneId, years, months, days);
+                frc.getPackedDates(epochMillis, zoneId, packedDates);
+                frc.getEpochMillis(packedDates, zoneId, reverseEpochMillis);
+                frc.convert(years, months, days, zoneId, reverseMidnightEpochMillis);
+                for (int i = 0; i < length; i++) {
+                    FrenchRevolutionaryCalendarDate expected = frc.getDate(Instant.ofEpochMilli(epochMillis[i]), zoneId);
+                    if (expected.year != years[i] || expected.month != months[i] || expected.dayOfMonth != days[i]) {
+                        fail(method + " " + zoneId + " " + epochMillis[i] + ": expected " + expected
+                                + " but got " + years[i] + "-" + months[i] + "-" + days[i]);
+                    }
+                    if (FrenchRevolutionaryCalendarPackedDate.of(expected) != packedDates[i]) {
+                        assertEquals(method + " " + zoneId + " " + epochMillis[i], expected,
+                                FrenchRevolutionaryCalendarPackedDate.toDate(packedDates[i], Locale.FRENCH));
+                    }
+                    // Before 1900, java.util.TimeZone doesn't have the offsets of java.time.
+                    long expectedEpochMillis = epochMillis[i] >= TIME_ZONE_START_MILLIS
+                            ? frc.getEpochMillis(packedDates[i], timeZone)
+                            : frc.getZonedDateTime(expected, zoneId).withLaterOffsetAtOverlap().toInstant().toEpochMilli();
+                    if (expectedEpochMillis != reverseEpochMillis[i]) {
+                        assertEquals(method + " " + zoneId + " " + expected, expectedEpochMillis, reverseEpochMillis[i]);
+                    }
+                    FrenchRevolutionaryCalendarDate midnight = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, years[i], months[i], days[i], 0, 0, 0);
+                    long expectedMidnightEpochMillis = frc.getZonedDateTime(midnight, zoneId).toInstant().toEpochMilli();
+                    if (expectedMidnightEpochMillis != reverseMidnightEpochMillis[i]) {
+                        assertEquals(method + " " + zoneId + " " + midnight, expectedMidnightEpochMillis, reverseMidnightEpochMillis[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return instants in ascending order, which cover all the times of the day, and the transitions to and from
+     * daylight saving time.
+     */
+    private static long[] createSortedDates() {
+        int count = 0;
+        long step = 3 * 86400000L + 3659000L;
+        long[] result = new long[(int) ((END_MILLIS - START_MILLIS) / step) + 1 + 2 * (int) ((DST_RANGES[1] - DST_RANGES[0]) / DST_STEP_MILLIS)];
+        for (long millis = START_MILLIS; millis < DST_RANGES[0]; millis += step) result[count++] = millis;
+        for (long millis = DST_RANGES[0]; millis < DST_RANGES[1]; millis += DST_STEP_MILLIS) result[count++] = millis;
+        for (long millis = DST_RANGES[2]; millis < DST_RANGES[3]; millis += DST_STEP_MILLIS) result[count++] = millis;
+        for (long millis = DST_RANGES[3]; millis < END_MILLIS; millis += step) result[count++] = millis;
+        long[] trimmed = new long[count];
+        System.arraycopy(result, 0, trimmed, 0, count);
+        return trimmed;
+    }
+}
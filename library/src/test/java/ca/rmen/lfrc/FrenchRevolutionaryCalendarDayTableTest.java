@@ -0,0 +1,81 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate that the calendars with a table of days give the same dates as the calendars without.
+ */
+public class FrenchRevolutionaryCalendarDayTableTest {
+
+    private static final LocalDate TABLE_START_DATE = LocalDate.of(1792, 1, 1);
+    private static final LocalDate TABLE_END_DATE = LocalDate.of(2300, 1, 1);
+
+    @Test
+    public void testDayTableMatchesComputedDates() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            FrenchRevolutionaryCalendar frcWithTable = frc.withDayTable(TABLE_START_DATE, TABLE_END_DATE);
+            // Include some days before and after the table.
+            for (LocalDate date = TABLE_START_DATE.minusDays(1000); date.isBefore(TABLE_END_DATE.plusDays(1000)); date = date.plusDays(1)) {
+                FrenchRevolutionaryCalendarDate expected = frc.getDate(date);
+                FrenchRevolutionaryCalendarDate actual = frcWithTable.getDate(date);
+                if (!expected.equals(actual)) assertEquals(method + " " + date, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testDayTableKeepsTheTime() {
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        FrenchRevolutionaryCalendar frcWithTable = frc.withDayTable(TABLE_START_DATE, TABLE_END_DATE);
+        long step = 86400000L + 3659000L;
+        for (long millis = -5585644800000L; millis < 10413792000000L; millis += step) {
+            long expected = frc.getPackedDate(millis, timeZone);
+            long actual = frcWithTable.getPackedDate(millis, timeZone);
+            if (expected != actual) assertEquals(String.valueOf(millis), expected, actual);
+        }
+    }
+
+    @Test
+    public void testEmptyDayTable() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        assertEquals(frc.getDate(TABLE_START_DATE), frc.withDayTable(TABLE_START_DATE, TABLE_START_DATE).getDate(TABLE_START_DATE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedDayTable() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX).withDayTable(TABLE_START_DATE, LocalDate.of(5000, 1, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDayTableRange() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME).withDayTable(TABLE_END_DATE, TABLE_START_DATE);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate the exact conversions between 24-hour times and decimal times.
+ */
+public class FrenchRevolutionaryCalendarDecimalTimeTest {
+
+    @Test
+    public void testKnownTimes() {
+        assertDecimalTime(0, 0, 0, 0, 0, 0, 0, 0, 0);
+        assertDecimalTime(11, 30, 30, 0, 4, 79, 51, 388, 47951388);
+        assertDecimalTime(12, 0, 0, 0, 5, 0, 0, 0, 50000000);
+        assertDecimalTime(23, 59, 59, 0, 9, 99, 98, 842, 99998842);
+        assertDecimalTime(23, 59, 59, 999, 9, 99, 99, 998, 99999998);
+    }
+
+    @Test
+    public void testEveryMillisecond() {
+        int previousDecimalTime = -1;
+        for (int millisOfDay = 0; millisOfDay < 86400000; millisOfDay++) {
+            int decimalTime = FrenchRevolutionaryCalendarDecimalTime.ofMillisOfDay(millisOfDay);
+            // The decimal time is the one which started at or before this millisecond, and which ends after it.
+            if ((long) decimalTime * 108 > millisOfDay * 125L || (decimalTime + 1L) * 108 <= millisOfDay * 125L) {
+                fail(millisOfDay + ": " + decimalTime);
+            }
+            if (decimalTime <= previousDecimalTime) fail(millisOfDay + ": " + decimalTime + " <= " + previousDecimalTime);
+            // Each millisecond has a different decimal time, so each one is converted back to itself.
+            if (FrenchRevolutionaryCalendarDecimalTime.toMillisOfDay(decimalTime) != millisOfDay) {
+                assertEquals(millisOfDay, FrenchRevolutionaryCalendarDecimalTime.toMillisOfDay(decimalTime));
+            }
+            previousDecimalTime = decimalTime;
+        }
+    }
+
+    @Test
+    public void testEveryDecimalSecond() {
+        for (int decimalSecond = 0; decimalSecond < 100000; decimalSecond++) {
+            int decimalTime = decimalSecond * 1000;
+            int millisOfDay = FrenchRevolutionaryCalendarDecimalTime.toMillisOfDay(decimalTime);
+            // The first millisecond at which the clock shows this decimal second.
+            assertEquals(decimalSecond, FrenchRevolutionaryCalendarDecimalTime.getSecondOfDay(
+                    FrenchRevolutionaryCalendarDecimalTime.ofMillisOfDay(millisOfDay)));
+            if (millisOfDay > 0) {
+                assertEquals(decimalSecond - 1, FrenchRevolutionaryCalendarDecimalTime.getSecondOfDay(
+                        FrenchRevolutionaryCalendarDecimalTime.ofMillisOfDay(millisOfDay - 1)));
+            }
+        }
+    }
+
+    @Test
+    public void testEpochMillis() {
+        TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+        // 2018-07-14 12:00:00.500 in Paris
+        assertEquals(50000578, FrenchRevolutionaryCalendarDecimalTime.ofEpochMillis(1531562400500L, paris));
+        // 1969-12-31 23:59:59.999 UTC
+        assertEquals(99999998, FrenchRevolutionaryCalendarDecimalTime.ofEpochMillis(-1, TimeZone.getTimeZone("UTC")));
+        // 1793-11-24 06:00:00 UTC
+        assertEquals(25000000, FrenchRevolutionaryCalendarDecimalTime.ofEpochMillis(-5557226400000L, TimeZone.getTimeZone("UTC")));
+
+        int[] time = new int[4];
+        FrenchRevolutionaryCalendar.getFrenchTime(1531562400500L, paris, time);
+        assertArrayEquals(new int[]{5, 0, 0, 578}, time);
+    }
+
+    @Test
+    public void testGet24HourTime() {
+        int[] time = new int[4];
+        FrenchRevolutionaryCalendar.get24HourTime(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 1, 1, 4, 79, 51), time);
+        assertArrayEquals(new int[]{11, 30, 29, 664}, time);
+        FrenchRevolutionaryCalendar.get24HourTime(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 1, 1, 9, 99, 99), time);
+        assertArrayEquals(new int[]{23, 59, 59, 136}, time);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMillisOfDay() {
+        FrenchRevolutionaryCalendarDecimalTime.ofMillisOfDay(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMillisOfDayTooLarge() {
+        FrenchRevolutionaryCalendarDecimalTime.ofMillisOfDay(86400000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecimalTimeTooLarge() {
+        FrenchRevolutionaryCalendarDecimalTime.toMillisOfDay(FrenchRevolutionaryCalendarDecimalTime.MILLIS_PER_DAY);
+    }
+
+    private static void assertDecimalTime(int hour, int minute, int second, int millisecond,
+                                          int expectedHour, int expectedMinute, int expectedSecond, int expectedMillisecond,
+                                          int expectedDecimalTime) {
+        int millisOfDay = ((hour * 60 + minute) * 60 + second) * 1000 + millisecond;
+        int decimalTime = FrenchRevolutionaryCalendarDecimalTime.ofMillisOfDay(millisOfDay);
+        assertEquals(expectedDecimalTime, decimalTime);
+        assertEquals(expectedDecimalTime, FrenchRevolutionaryCalendarDecimalTime.of(expectedHour, expectedMinute, expectedSecond, expectedMillisecond));
+        assertEquals(expectedHour, FrenchRevolutionaryCalendarDecimalTime.getHour(decimalTime));
+        assertEquals(expectedMinute, FrenchRevolutionaryCalendarDecimalTime.getMinute(decimalTime));
+        assertEquals(expectedSecond, FrenchRevolutionaryCalendarDecimalTime.getSecond(decimalTime));
+        assertEquals(expectedMillisecond, FrenchRevolutionaryCalendarDecimalTime.getMillisecond(decimalTime));
+        assertEquals(millisOfDay, FrenchRevolutionaryCalendarDecimalTime.toMillisOfDay(decimalTime));
+    }
+}
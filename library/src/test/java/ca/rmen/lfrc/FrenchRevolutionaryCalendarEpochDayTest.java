@@ -0,0 +1,82 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Validate the conversions between French dates and epoch days.
+ */
+public class FrenchRevolutionaryCalendarEpochDayTest {
+
+    private static final long START_EPOCH_DAY = LocalDate.of(1600, 1, 1).toEpochDay();
+    private static final long END_EPOCH_DAY = LocalDate.of(2400, 1, 1).toEpochDay();
+
+    @Test
+    public void testEpochDaysMatchLocalDate() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (long epochDay = START_EPOCH_DAY; epochDay < END_EPOCH_DAY; epochDay++) {
+                FrenchRevolutionaryCalendarDate expected = frc.getDate(LocalDate.ofEpochDay(epochDay));
+                FrenchRevolutionaryCalendarDate actual = FrenchRevolutionaryCalendarDate.ofEpochDay(epochDay, method, Locale.FRENCH);
+                if (!expected.equals(actual)) assertEquals(method + " " + epochDay, expected, actual);
+                if (actual.toEpochDay(method) != epochDay) assertEquals(method + " " + actual, epochDay, actual.toEpochDay(method));
+            }
+        }
+    }
+
+    @Test
+    public void testToEpochDayIgnoresTheTime() {
+        FrenchRevolutionaryCalendarDate date = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 1, 1, 1, 9, 99, 99);
+        assertEquals(LocalDate.of(1792, 9, 22).toEpochDay(), date.toEpochDay(CalculationMethod.ROMME));
+    }
+
+    @Test
+    public void testDaysBetween() {
+        Random random = new Random(1794);
+        for (CalculationMethod method : CalculationMethod.values()) {
+            for (int i = 0; i < 10000; i++) {
+                long startEpochDay = START_EPOCH_DAY + random.nextInt((int) (END_EPOCH_DAY - START_EPOCH_DAY));
+                long endEpochDay = startEpochDay + random.nextInt(1000) - 500;
+                FrenchRevolutionaryCalendarDate start = FrenchRevolutionaryCalendarDate.ofEpochDay(startEpochDay, method, Locale.FRENCH);
+                FrenchRevolutionaryCalendarDate end = FrenchRevolutionaryCalendarDate.ofEpochDay(endEpochDay, method, Locale.FRENCH);
+                assertEquals(method + " " + start + " " + end, endEpochDay - startEpochDay,
+                        FrenchRevolutionaryCalendarDate.daysBetween(start, end, method));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedEpochDay() {
+        FrenchRevolutionaryCalendarDate.ofEpochDay(LocalDate.of(5000, 1, 1).toEpochDay(), CalculationMethod.EQUINOX);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedDate() {
+        new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 5000, 1, 1, 0, 0, 0).toEpochDay(CalculationMethod.EQUINOX);
+    }
+}
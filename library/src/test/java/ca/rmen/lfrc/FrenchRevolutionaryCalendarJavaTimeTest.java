@@ -0,0 +1,156 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Validate that the java.time conversions give the same results as the GregorianCalendar conversions.
+ */
+public class FrenchRevolutionaryCalendarJavaTimeTest {
+
+    private static final String[] ZONE_IDS = {"UTC", "Europe/Paris", "America/Los_Angeles", "Asia/Kolkata"};
+
+    // 1792-01-01 to 2300-01-01, in steps of a bit more than three days, so that we cover all the times of the day.
+    private static final long START_MILLIS = -5585644800000L;
+    // Before the time zones were standardized, java.util.TimeZone and java.time don't agree on the local mean time offsets,
+    // so we only compare time zones from 1920-01-01.
+    private static final long ZONE_START_MILLIS = -1577923200000L;
+    private static final long END_MILLIS = 10413792000000L;
+    private static final long STEP_MILLIS = 3 * 86400000L + 3659000L;
+
+    @Test
+    public void testInstantMatchesGregorianCalendar() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (String zoneId : ZONE_IDS) {
+                ZoneId zone = ZoneId.of(zoneId);
+                GregorianCalendar cal = new GregorianCalendar(TimeZone.getTimeZone(zoneId));
+                long startMillis = zoneId.equals("UTC") ? START_MILLIS : ZONE_START_MILLIS;
+                for (long millis = startMillis; millis < END_MILLIS; millis += STEP_MILLIS) {
+                    cal.setTimeInMillis(millis);
+                    FrenchRevolutionaryCalendarDate expected = frc.getDate(cal);
+                    Instant instant = Instant.ofEpochMilli(millis);
+                    assertSameDate(method + " " + zoneId, expected, frc.getDate(instant, zone));
+                    assertSameDate(method + " " + zoneId, expected, frc.getDate(instant.atZone(zone)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLocalDateTimeMatchesGregorianCalendar() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.ENGLISH, method);
+            GregorianCalendar cal = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+            for (long millis = START_MILLIS; millis < END_MILLIS; millis += STEP_MILLIS) {
+                cal.setTimeInMillis(millis);
+                LocalDateTime dateTime = LocalDateTime.of(cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DAY_OF_MONTH),
+                        cal.get(Calendar.HOUR_OF_DAY), cal.get(Calendar.MINUTE), cal.get(Calendar.SECOND));
+                assertSameDate(method.toString(), frc.getDate(cal), frc.getDate(dateTime));
+
+                FrenchRevolutionaryCalendarDate date = frc.getDate(dateTime.toLocalDate());
+                assertSameDate(method.toString(), frc.getDate(dateTime.toLocalDate().atStartOfDay()), date);
+                assertEquals(0, date.hour);
+                assertEquals(0, date.minute);
+                assertEquals(0, date.second);
+            }
+        }
+    }
+
+    @Test
+    public void testReverseConversion() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            for (String zoneId : ZONE_IDS) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zoneId));
+                ZoneId zone = ZoneId.of(zoneId);
+                for (CalculationMethod method : CalculationMethod.values()) {
+                    FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+                    // The year 129 began in 1920.
+                    for (int year = zoneId.equals("UTC") ? 1 : 129; year < 500; year += 3) {
+                        for (int month = 1; month <= 13; month++) {
+                            for (int dayOfMonth = 1; dayOfMonth <= (month == 13 ? 5 : 30); dayOfMonth += 4) {
+                                FrenchRevolutionaryCalendarDate frenchDate = new FrenchRevolutionaryCalendarDate(Locale.FRENCH,
+                                        year, month, dayOfMonth, (dayOfMonth * 7) % 10, (year * 13) % 100, (month * 17) % 100);
+                                GregorianCalendar expected = frc.getDate(frenchDate);
+                                ZonedDateTime actual = frc.getZonedDateTime(frenchDate, zone);
+                                assertEquals(method + " " + frenchDate, expected.getTimeInMillis(), actual.toInstant().toEpochMilli());
+
+                                LocalDateTime actualLocal = frc.getLocalDateTime(frenchDate);
+                                assertEquals(method + " " + frenchDate, actual.toLocalDate(), actualLocal.toLocalDate());
+                                // Round trip
+                                assertEquals(frenchDate.year, frc.getDate(actualLocal).year);
+                                assertEquals(frenchDate.month, frc.getDate(actualLocal).month);
+                                assertEquals(frenchDate.dayOfMonth, frc.getDate(actualLocal).dayOfMonth);
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test
+    public void testEndOfDay() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        FrenchRevolutionaryCalendarDate frenchDate = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 1, 1, 9, 99, 99);
+        assertEquals(LocalDateTime.of(2016, 9, 22, 23, 59, 59), frc.getLocalDateTime(frenchDate));
+        assertEquals(LocalDate.of(2016, 9, 22), frc.getZonedDateTime(frenchDate, ZoneId.of("Europe/Paris")).toLocalDate());
+    }
+
+    @Test
+    public void testUnsupportedDate() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX);
+        FrenchRevolutionaryCalendarDate frenchDate = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 5000, 1, 1, 0, 0, 0);
+        assertNull(frc.getLocalDateTime(frenchDate));
+        assertNull(frc.getZonedDateTime(frenchDate, ZoneId.of("UTC")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedInstant() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX)
+                .getDate(LocalDate.of(5000, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+    }
+
+    /**
+     * Only build the failure message if the dates differ: we compare a lot of dates.
+     */
+    private static void assertSameDate(String message, FrenchRevolutionaryCalendarDate expected, FrenchRevolutionaryCalendarDate actual) {
+        if (!expected.equals(actual)) assertEquals(message, expected, actual);
+    }
+}
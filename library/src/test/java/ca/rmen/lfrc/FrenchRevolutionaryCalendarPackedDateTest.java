@@ -0,0 +1,175 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Validate the packed dates, and the conversions between epoch millis and packed dates.
+ */
+public class FrenchRevolutionaryCalendarPackedDateTest {
+
+    private static final String[] TIME_ZONES = {"UTC", "Europe/Paris", "America/Los_Angeles", "Asia/Kolkata"};
+
+    // 1792-01-01 to 2300-01-01, in steps of a bit more than three days, so that we cover all the times of the day.
+    private static final long START_MILLIS = -5585644800000L;
+    private static final long END_MILLIS = 10413792000000L;
+    private static final long STEP_MILLIS = 3 * 86400000L + 3659000L;
+
+    @Test
+    public void testPackAndUnpack() {
+        int[][] dates = {
+                {225, 1, 1, 0, 0, 0},
+                {0, 13, 6, 9, 99, 99},
+                {-1, 13, 5, 5, 50, 50},
+                {-2791, 7, 30, 1, 2, 3},
+                {1209, 12, 15, 9, 0, 99},
+        };
+        for (int[] date : dates) {
+            long packedDate = FrenchRevolutionaryCalendarPackedDate.of(date[0], date[1], date[2], date[3], date[4], date[5]);
+            assertEquals(date[0], FrenchRevolutionaryCalendarPackedDate.getYear(packedDate));
+            assertEquals(date[1], FrenchRevolutionaryCalendarPackedDate.getMonth(packedDate));
+            assertEquals(date[2], FrenchRevolutionaryCalendarPackedDate.getDayOfMonth(packedDate));
+            assertEquals(date[3], FrenchRevolutionaryCalendarPackedDate.getHour(packedDate));
+            assertEquals(date[4], FrenchRevolutionaryCalendarPackedDate.getMinute(packedDate));
+            assertEquals(date[5], FrenchRevolutionaryCalendarPackedDate.getSecond(packedDate));
+            assertEquals((date[1] - 1) * 30 + date[2], FrenchRevolutionaryCalendarPackedDate.getDayInYear(packedDate));
+
+            FrenchRevolutionaryCalendarDate frenchDate = FrenchRevolutionaryCalendarPackedDate.toDate(packedDate, Locale.FRENCH);
+            assertEquals(new FrenchRevolutionaryCalendarDate(Locale.FRENCH, date[0], date[1], date[2], date[3], date[4], date[5]), frenchDate);
+            assertEquals(packedDate, FrenchRevolutionaryCalendarPackedDate.of(frenchDate));
+        }
+    }
+
+    @Test
+    public void testPackedDatesAreSortedChronologically() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            TimeZone utc = TimeZone.getTimeZone("UTC");
+            // Start in the year -10 so that we compare negative and positive years.
+            long previousPackedDate = frc.getPackedDate(START_MILLIS - 10 * 365 * 86400000L, utc);
+            for (long millis = START_MILLIS - 10 * 365 * 86400000L + STEP_MILLIS; millis < END_MILLIS; millis += STEP_MILLIS) {
+                long packedDate = frc.getPackedDate(millis, utc);
+                assertTrue(method + ": " + millis, packedDate > previousPackedDate);
+                previousPackedDate = packedDate;
+            }
+        }
+    }
+
+    @Test
+    public void testPackedDatesMatchGregorianCalendar() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (String timeZoneId : TIME_ZONES) {
+                TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+                GregorianCalendar cal = new GregorianCalendar(timeZone);
+                for (long millis = START_MILLIS; millis < END_MILLIS; millis += STEP_MILLIS) {
+                    cal.setTimeInMillis(millis);
+                    long expected = FrenchRevolutionaryCalendarPackedDate.of(frc.getDate(cal));
+                    long actual = frc.getPackedDate(millis, timeZone);
+                    if (expected != actual) assertEquals(method + " " + timeZoneId + " " + millis, expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPackedDatesOfLocalDateAndTime() {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            for (long millis = START_MILLIS; millis < END_MILLIS; millis += STEP_MILLIS) {
+                long epochDay = Math.floorDiv(millis, 86400000L);
+                int secondOfDay = (int) (Math.floorMod(millis, 86400000L) / 1000);
+                long expected = frc.getPackedDate(millis, utc);
+                long actual = frc.getPackedDate(epochDay, secondOfDay);
+                if (expected != actual) assertEquals(method + " " + millis, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testDecimalTimeOfEverySecond() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        long epochDay = 18262; // 2020-01-01
+        for (int secondOfDay = 0; secondOfDay < 86400; secondOfDay++) {
+            long packedDate = frc.getPackedDate(epochDay, secondOfDay);
+            int decimalSecondOfDay = FrenchRevolutionaryCalendarPackedDate.getHour(packedDate) * 10000
+                    + FrenchRevolutionaryCalendarPackedDate.getMinute(packedDate) * 100
+                    + FrenchRevolutionaryCalendarPackedDate.getSecond(packedDate);
+            assertTrue(secondOfDay + ": " + packedDate, FrenchRevolutionaryCalendarPackedDate.getMinute(packedDate) <= 99);
+            assertTrue(secondOfDay + ": " + packedDate, FrenchRevolutionaryCalendarPackedDate.getSecond(packedDate) <= 99);
+            // The nearest decimal second: a second is 1.157... decimal seconds.
+            assertEquals(String.valueOf(secondOfDay), Math.round(secondOfDay * 125 / 108.0), decimalSecondOfDay);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSecondOfDay() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME).getPackedDate(0L, 86400);
+    }
+
+    @Test
+    public void testEpochMillisMatchGregorianCalendar() {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            for (String timeZoneId : TIME_ZONES) {
+                TimeZone timeZone = TimeZone.getTimeZone(timeZoneId);
+                TimeZone.setDefault(timeZone);
+                for (CalculationMethod method : CalculationMethod.values()) {
+                    FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+                    for (long millis = START_MILLIS; millis < END_MILLIS; millis += STEP_MILLIS) {
+                        long packedDate = frc.getPackedDate(millis, timeZone);
+                        FrenchRevolutionaryCalendarDate frenchDate = FrenchRevolutionaryCalendarPackedDate.toDate(packedDate, Locale.FRENCH);
+                        long expected = frc.getDate(frenchDate).getTimeInMillis();
+                        long actual = frc.getEpochMillis(packedDate, timeZone);
+                        if (expected != actual) assertEquals(method + " " + timeZoneId + " " + frenchDate, expected, actual);
+                    }
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedEpochMillis() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX).getPackedDate(Long.MAX_VALUE / 2, TimeZone.getTimeZone("UTC"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedEpochDay() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX).getPackedDate(Long.MAX_VALUE / 86400000L, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedPackedDate() {
+        new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX)
+                .getEpochMillis(FrenchRevolutionaryCalendarPackedDate.of(5000, 1, 1, 0, 0, 0), TimeZone.getTimeZone("UTC"));
+    }
+}
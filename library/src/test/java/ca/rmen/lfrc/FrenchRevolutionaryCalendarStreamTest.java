@@ -0,0 +1,142 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate the streams of the French dates of ranges of days.
+ */
+public class FrenchRevolutionaryCalendarStreamTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(1700, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2300, 1, 1);
+
+    @Test
+    public void testDatesMatchGetDate() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            LocalDate gregorianDate = START_DATE;
+            Iterator<FrenchRevolutionaryCalendarDate> dates = frc.getDates(START_DATE, END_DATE).iterator();
+            while (dates.hasNext()) {
+                FrenchRevolutionaryCalendarDate expected = frc.getDate(gregorianDate);
+                FrenchRevolutionaryCalendarDate actual = dates.next();
+                if (!expected.equals(actual)) assertEquals(method + " " + gregorianDate, expected, actual);
+                gregorianDate = gregorianDate.plusDays(1);
+            }
+            assertEquals(END_DATE, gregorianDate);
+        }
+    }
+
+    @Test
+    public void testParallelStreamMatchesSequentialStream() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            long[] expected = frc.getPackedDates(START_DATE, END_DATE).toArray();
+            assertEquals(END_DATE.toEpochDay() - START_DATE.toEpochDay(), expected.length);
+            assertArrayEquals(method.toString(), expected, frc.getPackedDates(START_DATE, END_DATE).parallel().toArray());
+            assertEquals(method.toString(), expected.length, frc.getDates(START_DATE, END_DATE).parallel().count());
+        }
+    }
+
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        Spliterator.OfLong suffix = frc.getPackedDates(START_DATE, END_DATE).spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.SORTED));
+        long size = suffix.getExactSizeIfKnown();
+        Spliterator.OfLong prefix = suffix.trySplit();
+        assertEquals(size / 2, prefix.getExactSizeIfKnown());
+        assertEquals(size - size / 2, suffix.getExactSizeIfKnown());
+        final long[] lastOfPrefix = new long[1];
+        final long[] firstOfSuffix = new long[1];
+        prefix.forEachRemaining(new LongConsumer() {
+            public void accept(long packedDate) {
+                // This is the last packed date once all the prefix is read.
+                lastOfPrefix[0] = packedDate;
+            }
+        });
+        assertTrue(suffix.tryAdvance(new LongConsumer() {
+            public void accept(long packedDate) {
+                firstOfSuffix[0] = packedDate;
+            }
+        }));
+        assertEquals(FrenchRevolutionaryCalendarPackedDate.of(frc.getDate(START_DATE.plusDays(size / 2 - 1))), lastOfPrefix[0]);
+        assertEquals(FrenchRevolutionaryCalendarPackedDate.of(frc.getDate(START_DATE.plusDays(size / 2))), firstOfSuffix[0]);
+    }
+
+    @Test
+    public void testFrenchDateRange() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        FrenchRevolutionaryCalendarDate start = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 224, 12, 29, 5, 0, 0);
+        FrenchRevolutionaryCalendarDate end = new FrenchRevolutionaryCalendarDate(Locale.FRENCH, 225, 1, 2, 0, 0, 0);
+        long[] expected = {
+                FrenchRevolutionaryCalendarPackedDate.of(224, 12, 29, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(224, 12, 30, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(224, 13, 1, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(224, 13, 2, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(224, 13, 3, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(224, 13, 4, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(224, 13, 5, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(224, 13, 6, 0, 0, 0),
+                FrenchRevolutionaryCalendarPackedDate.of(225, 1, 1, 0, 0, 0),
+        };
+        assertArrayEquals(expected, frc.getPackedDates(start, end).toArray());
+        assertEquals(expected.length, frc.getDates(start, end).count());
+    }
+
+    @Test
+    public void testEmptyRanges() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX);
+        assertEquals(0, frc.getPackedDates(END_DATE, END_DATE).count());
+        assertEquals(0, frc.getDates(END_DATE, START_DATE).count());
+        assertFalse(frc.getPackedDates(END_DATE, START_DATE).iterator().hasNext());
+    }
+
+    @Test
+    public void testUnsupportedRange() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX);
+        try {
+            frc.getDates(START_DATE, LocalDate.of(5000, 1, 1));
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            frc.getPackedDates(LocalDate.of(-5000, 1, 1), START_DATE);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
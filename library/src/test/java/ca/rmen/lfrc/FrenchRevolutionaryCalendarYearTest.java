@@ -0,0 +1,125 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc;
+
+import ca.rmen.lfrc.FrenchRevolutionaryCalendar.CalculationMethod;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Validate the first days, lengths, and sextile years of the French years.
+ */
+public class FrenchRevolutionaryCalendarYearTest {
+
+    private static final int FIRST_EQUINOX_YEAR = -2791;
+    private static final int LAST_EQUINOX_YEAR = 1209;
+
+    @Test
+    public void testFirstDaysOfYearsMatchConversions() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            int lastYear = method == CalculationMethod.EQUINOX ? LAST_EQUINOX_YEAR : 5000;
+            for (int year = FIRST_EQUINOX_YEAR + 1; year <= lastYear; year++) {
+                long firstDayOfYear = frc.getFirstDayOfYear(year);
+                FrenchRevolutionaryCalendarDate firstDate = frc.getDate(LocalDate.ofEpochDay(firstDayOfYear));
+                FrenchRevolutionaryCalendarDate lastDateOfPreviousYear = frc.getDate(LocalDate.ofEpochDay(firstDayOfYear - 1));
+                if (firstDate.year != year || firstDate.getDayInYear() != 1 || lastDateOfPreviousYear.year != year - 1) {
+                    fail(method + " " + year + ": " + firstDate + ", " + lastDateOfPreviousYear);
+                }
+                if (frc.getDaysInYear(year - 1) != lastDateOfPreviousYear.getDayInYear()) {
+                    assertEquals(method + " " + (year - 1), lastDateOfPreviousYear.getDayInYear(), frc.getDaysInYear(year - 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSextileYears() {
+        for (CalculationMethod method : CalculationMethod.values()) {
+            FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, method);
+            // All the methods use the equinox for the first 19 years. The length of the year 19 depends on when
+            // each method begins the year 20.
+            for (int year = 1; year <= 18; year++) {
+                assertEquals(method + " " + year, year == 3 || year == 7 || year == 11 || year == 15, frc.isSextileYear(year));
+            }
+        }
+        FrenchRevolutionaryCalendar romme = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME);
+        FrenchRevolutionaryCalendar vonMadler = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.VON_MADLER);
+        for (int year = 20; year <= 5000; year++) {
+            assertEquals("Romme " + year, year % 4 == 0 && (year % 100 != 0 || year % 400 == 0), romme.isSextileYear(year));
+            assertEquals("von Mädler " + year, year % 4 == 0 && year % 128 != 0, vonMadler.isSextileYear(year));
+        }
+        assertTrue(romme.isSextileYear(400));
+        assertFalse(romme.isSextileYear(300));
+        assertFalse(vonMadler.isSextileYear(256));
+        assertEquals(366, vonMadler.getDaysInYear(260));
+        assertEquals(365, vonMadler.getDaysInYear(261));
+    }
+
+    @Test
+    public void testUnsupportedYears() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX);
+        assertEquals(LocalDate.of(3000, 9, 22).toEpochDay(), frc.getFirstDayOfYear(LAST_EQUINOX_YEAR));
+        try {
+            frc.getFirstDayOfYear(LAST_EQUINOX_YEAR + 1);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            frc.getFirstDayOfYear(FIRST_EQUINOX_YEAR - 1);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testLengthsOfTheLastEquinoxYears() {
+        FrenchRevolutionaryCalendar frc = new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.EQUINOX);
+        assertEquals(frc.getFirstDayOfYear(FIRST_EQUINOX_YEAR + 1) - frc.getFirstDayOfYear(FIRST_EQUINOX_YEAR),
+                frc.getDaysInYear(FIRST_EQUINOX_YEAR));
+        assertEquals(frc.getFirstDayOfYear(LAST_EQUINOX_YEAR) - frc.getFirstDayOfYear(LAST_EQUINOX_YEAR - 1),
+                frc.getDaysInYear(LAST_EQUINOX_YEAR - 1));
+        // We don't know when the year after the last equinox year begins.
+        try {
+            frc.getDaysInYear(LAST_EQUINOX_YEAR);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            frc.isSextileYear(LAST_EQUINOX_YEAR);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        // The other methods don't need the equinox dates after the year 19.
+        assertEquals(365, new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.ROMME).getDaysInYear(LAST_EQUINOX_YEAR));
+        assertEquals(365, new FrenchRevolutionaryCalendar(Locale.FRENCH, CalculationMethod.VON_MADLER).getDaysInYear(LAST_EQUINOX_YEAR));
+    }
+}
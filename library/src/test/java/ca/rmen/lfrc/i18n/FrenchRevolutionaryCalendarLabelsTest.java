@@ -0,0 +1,57 @@
+/*
+ * French Revolutionary Calendar Library
+ *
+ * Copyright (c) 2026 Carmen Alvarez
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ */
+package ca.rmen.lfrc.i18n;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Validate that each locale gets the labels of its language.
+ */
+public class FrenchRevolutionaryCalendarLabelsTest {
+
+    @Test
+    public void testLabelsForLanguage() {
+        assertEquals(FrenchRevolutionaryCalendarLabelsFR.class, FrenchRevolutionaryCalendarLabels.getInstance(Locale.FRENCH).getClass());
+        assertEquals(FrenchRevolutionaryCalendarLabelsEN.class, FrenchRevolutionaryCalendarLabels.getInstance(Locale.ENGLISH).getClass());
+        assertEquals(FrenchRevolutionaryCalendarLabelsES.class, FrenchRevolutionaryCalendarLabels.getInstance(new Locale("es")).getClass());
+        assertEquals(FrenchRevolutionaryCalendarLabelsCA.class, FrenchRevolutionaryCalendarLabels.getInstance(new Locale("ca")).getClass());
+        assertEquals(FrenchRevolutionaryCalendarLabelsIT.class, FrenchRevolutionaryCalendarLabels.getInstance(Locale.ITALIAN).getClass());
+        assertEquals(FrenchRevolutionaryCalendarLabelsDE.class, FrenchRevolutionaryCalendarLabels.getInstance(Locale.GERMAN).getClass());
+        assertEquals(FrenchRevolutionaryCalendarLabelsEU.class, FrenchRevolutionaryCalendarLabels.getInstance(new Locale("eu")).getClass());
+    }
+
+    @Test
+    public void testLabelsAreShared() {
+        assertSame(FrenchRevolutionaryCalendarLabels.getInstance(Locale.ENGLISH), FrenchRevolutionaryCalendarLabels.getInstance(Locale.US));
+        assertSame(FrenchRevolutionaryCalendarLabels.getInstance(Locale.ENGLISH), FrenchRevolutionaryCalendarLabels.getInstance(new Locale("en", "CA")));
+        assertSame(FrenchRevolutionaryCalendarLabels.getInstance(Locale.FRENCH), FrenchRevolutionaryCalendarLabels.getInstance(Locale.CANADA_FRENCH));
+    }
+
+    @Test
+    public void testOtherLanguagesUseFrench() {
+        assertSame(FrenchRevolutionaryCalendarLabels.getInstance(Locale.FRENCH), FrenchRevolutionaryCalendarLabels.getInstance(Locale.JAPANESE));
+        assertSame(FrenchRevolutionaryCalendarLabels.getInstance(Locale.FRENCH), FrenchRevolutionaryCalendarLabels.getInstance(Locale.ROOT));
+    }
+}